@@ -23,13 +23,22 @@ create table users
         unique (username)
 );
 
+create table article_seq
+(
+    next_val bigint null
+);
+
+insert into article_seq values (1);
+
 create table article
 (
-    id          int auto_increment
+    id          int not null
         primary key,
     content     varchar(255) null,
     created_at  datetime(6) null,
     description varchar(255) null,
+    favorites_count int default 0 not null,
+    comments_count  int default 0 not null,
     slug        varchar(255) null,
     title       varchar(255) null,
     updated_at  datetime(6) null,
@@ -40,6 +49,9 @@ create table article
         foreign key (author_id) references users (id)
 );
 
+create index IDX_article_created_at_id
+    on article (created_at, id);
+
 create table article_favorites
 (
     article_id int not null,
@@ -62,9 +74,16 @@ create table article_tags
         foreign key (article_id) references article (id)
 );
 
+create table comment_seq
+(
+    next_val bigint null
+);
+
+insert into comment_seq values (1);
+
 create table comment
 (
-    id         int auto_increment
+    id         int not null
         primary key,
     content    varchar(255) null,
     created_at datetime(6) null,
@@ -77,6 +96,9 @@ create table comment
         foreign key (author_id) references users (id)
 );
 
+create index IDX_comment_article_created_at_id
+    on comment (article_id, created_at, id);
+
 create table users_follow
 (
     follower_id  binary(16) not null,
@@ -87,3 +109,40 @@ create table users_follow
     constraint FKfa0lm5cjf528x4wa1si8yg5u8
         foreign key (following_id) references users (id)
 );
+
+create table feed_entry
+(
+    article_id int not null,
+    created_at datetime(6) not null,
+    user_id    binary(16) not null,
+    primary key (article_id, user_id)
+);
+
+create index IDX_feed_entry_user_created_at
+    on feed_entry (user_id, created_at, article_id);
+
+create table feed_pull_author
+(
+    author_id binary(16) not null
+        primary key
+);
+
+create table refresh_token
+(
+    id         bigint auto_increment
+        primary key,
+    expires_at datetime(6) not null,
+    family_id  binary(16) not null,
+    revoked    bit not null,
+    token_hash varbinary(32) not null,
+    used_at    datetime(6) null,
+    user_id    binary(16) not null,
+    constraint UK_refresh_token_token_hash
+        unique (token_hash)
+);
+
+create index IDX_refresh_token_family
+    on refresh_token (family_id);
+
+create index IDX_refresh_token_user
+    on refresh_token (user_id);
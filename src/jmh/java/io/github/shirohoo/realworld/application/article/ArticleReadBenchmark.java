@@ -0,0 +1,99 @@
+package io.github.shirohoo.realworld.application.article;
+
+import io.github.shirohoo.realworld.RealworldApplication;
+import io.github.shirohoo.realworld.application.article.controller.CreateArticleRequest;
+import io.github.shirohoo.realworld.application.article.service.ArticleService;
+import io.github.shirohoo.realworld.domain.article.ArticleFacets;
+import io.github.shirohoo.realworld.domain.article.ArticleVO;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares the entity read path of article lists with the JDBC projection path.
+ * Run with `./gradlew jmh`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleReadBenchmark {
+    private static final int AUTHORS = 10;
+    private static final int ARTICLES_PER_AUTHOR = 50;
+
+    @Param({"false", "true"})
+    public boolean projection;
+
+    @Param({"20", "100"})
+    public int limit;
+
+    private ConfigurableApplicationContext context;
+    private ArticleService articleService;
+    private User reader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RealworldApplication.class)
+                .properties(
+                        "server.port=0",
+                        "logging.level.root=warn",
+                        "decorator.datasource.p6spy.enable-logging=false",
+                        "realworld.article.projection.enabled=" + projection)
+                .run();
+        articleService = context.getBean(ArticleService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        // One transaction, so the authors stay managed while their articles cascade from them.
+        reader = transaction.execute(status -> {
+            User me = userRepository.save(User.builder()
+                    .email("reader@example.com")
+                    .username("reader")
+                    .password("password")
+                    .build());
+
+            List<User> authors = new ArrayList<>();
+            for (int i = 0; i < AUTHORS; i++) {
+                authors.add(userRepository.save(User.builder()
+                        .email("author%d@example.com".formatted(i))
+                        .username("author%d".formatted(i))
+                        .password("password")
+                        .build()));
+            }
+
+            for (int i = 0; i < AUTHORS * ARTICLES_PER_AUTHOR; i++) {
+                List<String> tags = List.of("tag%d".formatted(i % 7), "tag%d".formatted(i % 11), "common");
+                CreateArticleRequest request =
+                        new CreateArticleRequest("Article %d".formatted(i), "Description", "Body", tags);
+                articleService.createArticle(authors.get(i % AUTHORS), request);
+                if (i % 3 == 0) {
+                    articleService.favoriteArticle(me, "article-%d".formatted(i));
+                }
+            }
+            return me;
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ArticleVO> getArticles() {
+        return articleService.getArticles(reader, new ArticleFacets(null, null, null, 0, limit));
+    }
+
+    @Benchmark
+    public List<ArticleVO> getArticlesByTag() {
+        return articleService.getArticles(reader, new ArticleFacets("common", null, null, 0, limit));
+    }
+}
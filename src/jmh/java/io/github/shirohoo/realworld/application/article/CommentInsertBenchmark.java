@@ -0,0 +1,114 @@
+package io.github.shirohoo.realworld.application.article;
+
+import io.github.shirohoo.realworld.RealworldApplication;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.Comment;
+import io.github.shirohoo.realworld.domain.article.CommentRepository;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures a bulk import of comments in one transaction, with and without JDBC batching.
+ * `batchSize=1` is the row-by-row baseline. `ids=identity` imports {@link IdentityComment}s instead, the mapping
+ * from before the sequence ids, for which Hibernate cannot batch inserts. Run with `./gradlew jmh`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommentInsertBenchmark {
+    private static final int COMMENTS_PER_IMPORT = 500;
+
+    @Param({"sequence", "identity"})
+    public String ids;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private CommentRepository commentRepository;
+    private ArticleRepository articleRepository;
+    private UserRepository userRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transaction;
+    private UUID authorId;
+    private Integer articleId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RealworldApplication.class)
+                .properties(
+                        "server.port=0",
+                        "logging.level.root=warn",
+                        "decorator.datasource.p6spy.enable-logging=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize)
+                .run();
+        commentRepository = context.getBean(CommentRepository.class);
+        entityManager =
+                SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        articleRepository = context.getBean(ArticleRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+
+        authorId = userRepository
+                .save(User.builder()
+                        .email("author@example.com")
+                        .username("author")
+                        .password("password")
+                        .build())
+                .id();
+        articleId = transaction.execute(status -> articleRepository
+                .save(Article.builder()
+                        .title("Imported Article")
+                        .author(userRepository.getReferenceById(authorId))
+                        .build())
+                .id());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMMENTS_PER_IMPORT)
+    public void importComments() {
+        transaction.executeWithoutResult(status -> {
+            // References keep the cascading associations from trying to persist detached entities.
+            Article article = articleRepository.getReferenceById(articleId);
+            User author = userRepository.getReferenceById(authorId);
+            if (ids.equals("identity")) {
+                for (int i = 0; i < COMMENTS_PER_IMPORT; i++) {
+                    entityManager.persist(new IdentityComment(article, author, "Imported comment %d".formatted(i)));
+                }
+                return;
+            }
+
+            List<Comment> comments = new ArrayList<>(COMMENTS_PER_IMPORT);
+            for (int i = 0; i < COMMENTS_PER_IMPORT; i++) {
+                comments.add(Comment.builder()
+                        .article(article)
+                        .author(author)
+                        .content("Imported comment %d".formatted(i))
+                        .build());
+            }
+            commentRepository.saveAll(comments);
+        });
+    }
+}
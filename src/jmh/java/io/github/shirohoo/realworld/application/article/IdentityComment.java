@@ -0,0 +1,48 @@
+package io.github.shirohoo.realworld.application.article;
+
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.Comment;
+import io.github.shirohoo.realworld.domain.user.User;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * {@link Comment} as it was mapped before the sequence ids: the same columns, with the id generated by an IDENTITY
+ * column. Lets {@link CommentInsertBenchmark} measure both mappings in one run.
+ */
+@Entity
+@Table(name = "identity_comment")
+@EntityListeners(AuditingEntityListener.class)
+public class IdentityComment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    private Article article;
+
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    private User author;
+
+    private String content;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    protected IdentityComment() {}
+
+    IdentityComment(Article article, User author, String content) {
+        this.article = article;
+        this.author = author;
+        this.content = content;
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.shirohoo.realworld.application.config;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+/**
+ * Measures the decode cost per authenticated request, with and without the verified token cache.
+ * `tokens` is the number of distinct clients taking turns, each reusing its own token. Run with `./gradlew jmh`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtDecodeBenchmark {
+    @Param({"false", "true"})
+    public boolean cached;
+
+    @Param({"1", "1000"})
+    public int tokens;
+
+    private JwtDecoder decoder;
+    private String[] issued;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
+
+        RSAKey jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
+        JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+        Instant now = Instant.now();
+        issued = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            JwtClaimsSet claims = JwtClaimsSet.builder()
+                    .issuer("https://realworld.io")
+                    .issuedAt(now)
+                    .expiresAt(now.plus(Duration.ofHours(1)))
+                    .subject("user-%d".formatted(i))
+                    .build();
+            issued[i] = encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        }
+
+        JwtDecoder nimbus = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        decoder = cached ? new CachingJwtDecoder(nimbus, 10_000, Duration.ofMinutes(10)) : nimbus;
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        String token = issued[next];
+        next = (next + 1) % issued.length;
+        return decoder.decode(token);
+    }
+}
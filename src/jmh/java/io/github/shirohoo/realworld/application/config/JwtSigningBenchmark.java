@@ -0,0 +1,73 @@
+package io.github.shirohoo.realworld.application.config;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+/**
+ * Compares signing and verification throughput per key type, without the verified token cache.
+ * The size of a token signed with the key is printed when a trial starts. Run with `./gradlew jmh`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtSigningBenchmark {
+    @Param({"RS256", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private JwtEncoder encoder;
+    private JwtDecoder decoder;
+    private JwtSigningKey signingKey;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JOSEException {
+        JWK jwk =
+                switch (algorithm) {
+                    case "RS256" -> new RSAKeyGenerator(2048).keyID("rsa").generate();
+                    case "ES256" -> new ECKeyGenerator(Curve.P_256).keyID("ec").generate();
+                    default -> new OctetKeyPairGenerator(Curve.Ed25519).keyID("ed25519").generate();
+                };
+        JWKSet jwkSet = new JWKSet(jwk);
+        encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(jwkSet));
+        decoder = SecurityConfiguration.verifier(jwkSet);
+        signingKey = JwtSigningKey.select(jwkSet, null);
+
+        token = this.sign();
+        System.out.printf("%n%s token: %d bytes%n", algorithm, token.length());
+    }
+
+    @Benchmark
+    public String sign() {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("https://realworld.io")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .subject("0188d7b6-5a3c-7c2e-9f41-2b6d4e8a1c07")
+                .claim("username", "james")
+                .build();
+        return encoder.encode(JwtEncoderParameters.from(signingKey.header(), claims)).getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return decoder.decode(token);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.shirohoo.realworld.application.user;
+
+import io.github.shirohoo.realworld.RealworldApplication;
+import io.github.shirohoo.realworld.application.user.controller.LoginUserRequest;
+import io.github.shirohoo.realworld.application.user.controller.SignUpUserRequest;
+import io.github.shirohoo.realworld.application.user.service.ProfileService;
+import io.github.shirohoo.realworld.application.user.service.UserService;
+import io.github.shirohoo.realworld.domain.user.ProfileVO;
+import io.github.shirohoo.realworld.domain.user.UserVO;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Samples the latency of a profile read while more logins arrive than the password hashing executor can take.
+ * The `read` percentiles are the ones to watch: logins wait for BCrypt without a connection, so reads keep getting
+ * one from the pool. Logins turned away with 503 count as done. Run with `./gradlew jmh`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoginStormBenchmark {
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private ProfileService profileService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RealworldApplication.class)
+                .properties(
+                        "server.port=0",
+                        "logging.level.root=warn",
+                        "decorator.datasource.p6spy.enable-logging=false",
+                        "spring.datasource.hikari.maximum-pool-size=10")
+                .run();
+        userService = context.getBean(UserService.class);
+        profileService = context.getBean(ProfileService.class);
+        userService.signUp(new SignUpUserRequest("james@example.com", "james", "password"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(32)
+    public UserVO login() {
+        try {
+            return userService.login(new LoginUserRequest("james@example.com", "password"));
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(4)
+    public ProfileVO read() {
+        return profileService.getProfile(null, "james");
+    }
+}
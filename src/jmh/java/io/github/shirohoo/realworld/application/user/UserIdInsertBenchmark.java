@@ -0,0 +1,118 @@
+package io.github.shirohoo.realworld.application.user;
+
+import io.github.shirohoo.realworld.domain.user.TimeOrderedUUIDGenerator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures sign-up inserts into a `users` table that already holds `seeded` rows, keyed by random (version 4)
+ * or time-ordered (version 7) ids. It writes to a file-backed H2 database through plain JDBC,
+ * so the difference comes from where the keys land in the primary key index rather than from the mapping.
+ * The space the table and its indexes take is printed when a trial ends. Run with `./gradlew jmh`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserIdInsertBenchmark {
+    private static final int SIGN_UPS_PER_INVOCATION = 1_000;
+
+    @Param({"random", "time-ordered"})
+    public String ids;
+
+    @Param({"1000000"})
+    public int seeded;
+
+    private Path directory;
+    private Connection connection;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("user-id-benchmark");
+        String url = "jdbc:h2:file:" + directory.resolve("users") + ";MODE=MYSQL";
+        connection = DriverManager.getConnection(url, "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    """
+                    create table users
+                    (
+                        id         binary(16) not null primary key,
+                        created_at datetime(6) null,
+                        email      varchar(255) null unique,
+                        password   varchar(255) null,
+                        username   varchar(255) null unique
+                    )
+                    """);
+        }
+
+        for (int inserted = 0; inserted < seeded; inserted += SIGN_UPS_PER_INVOCATION) {
+            this.signUp(Math.min(SIGN_UPS_PER_INVOCATION, seeded - inserted));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("CALL DISK_SPACE_USED('USERS')")) {
+            resultSet.next();
+            System.out.printf("%n%s ids: %d users take %d bytes%n", ids, sequence, resultSet.getLong(1));
+        }
+
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIGN_UPS_PER_INVOCATION)
+    public void signUp() throws SQLException {
+        this.signUp(SIGN_UPS_PER_INVOCATION);
+    }
+
+    private void signUp(int count) throws SQLException {
+        String sql =
+                "insert into users (id, created_at, email, password, username) values (?, current_timestamp, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                long n = sequence++;
+                statement.setBytes(1, this.toBytes(this.nextId()));
+                statement.setString(2, "user" + n + "@example.com");
+                statement.setString(3, "password");
+                statement.setString(4, "user" + n);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private UUID nextId() {
+        return ids.equals("random") ? UUID.randomUUID() : TimeOrderedUUIDGenerator.next();
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -1,44 +1,94 @@
 package io.github.shirohoo.realworld.application.article.controller;
 
+import static java.util.Objects.requireNonNullElse;
+
+import io.github.shirohoo.realworld.application.article.service.ArticleJsonAssembler;
 import io.github.shirohoo.realworld.application.article.service.ArticleService;
+import io.github.shirohoo.realworld.domain.article.ArticleCursor;
 import io.github.shirohoo.realworld.domain.article.ArticleFacets;
+import io.github.shirohoo.realworld.domain.article.ArticlePageVO;
+import io.github.shirohoo.realworld.domain.article.ArticleSearchCursor;
 import io.github.shirohoo.realworld.domain.article.ArticleVO;
+import io.github.shirohoo.realworld.domain.article.CommentCursor;
 import io.github.shirohoo.realworld.domain.article.CommentVO;
-import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
+
+import java.io.IOException;
+import java.util.Optional;
 
-import java.util.List;
+import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequiredArgsConstructor
 public class ArticleController {
     private final ArticleService articleService;
+    private final Optional<ArticleJsonAssembler> articleJsonAssembler;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/api/articles")
-    public SingleArticleResponse createArticle(User me, @RequestBody CreateArticleRequest request) {
+    public SingleArticleResponse createArticle(CurrentUser me, @RequestBody CreateArticleRequest request) {
         ArticleVO article = articleService.createArticle(me, request);
         return new SingleArticleResponse(article);
     }
 
     @GetMapping("/api/articles")
-    public MultipleArticlesResponse getArticles(
-            User me,
+    public void getArticles(
+            CurrentUser me,
+            @RequestParam(value = "tag", required = false) String tag,
+            @RequestParam(value = "author", required = false) String author,
+            @RequestParam(value = "favorited", required = false) String favorited,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "offset", required = false) Integer offset,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            HttpServletResponse response)
+            throws IOException {
+        JsonArrayStream articles = new JsonArrayStream(objectMapper, response, "articles");
+        if (cursor != null) {
+            ArticleFacets facets = new ArticleFacets(
+                    tag, author, favorited, 0, requireNonNullElse(limit, 20), ArticleCursor.decode(cursor));
+            String nextCursor = articleService.streamArticlesByCursor(me, facets, articles::write);
+            articles.field("articlesCount", articles.size()).field("nextCursor", nextCursor).close();
+            return;
+        }
+
+        // Offset mode keeps its original binding: `limit` carries the page number and `offset` the page size.
+        ArticleFacets facets =
+                new ArticleFacets(tag, author, favorited, requireNonNullElse(limit, 0), requireNonNullElse(offset, 20));
+        if (articleJsonAssembler.isPresent()) {
+            byte[] body = articleJsonAssembler.get().assemble(me, facets, articleService.countArticles(facets));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(body);
+            return;
+        }
+
+        articleService.streamArticles(me, facets, articles::write);
+        articles.field("articlesCount", articleService.countArticles(facets)).close();
+    }
+
+    @GetMapping("/api/articles/search")
+    public MultipleArticlesResponse searchArticles(
+            CurrentUser me,
+            @RequestParam("q") String query,
             @RequestParam(value = "tag", required = false) String tag,
             @RequestParam(value = "author", required = false) String author,
             @RequestParam(value = "favorited", required = false) String favorited,
-            @RequestParam(value = "limit", required = false, defaultValue = "0") int offset,
-            @RequestParam(value = "offset", required = false, defaultValue = "20") int limit) {
-        ArticleFacets facets = new ArticleFacets(tag, author, favorited, offset, limit);
-        List<ArticleVO> articles = articleService.getArticles(me, facets);
-        return new MultipleArticlesResponse(articles);
+            @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        ArticleFacets facets = new ArticleFacets(tag, author, favorited, 0, limit);
+        ArticlePageVO page = articleService.searchArticles(me, query, facets, ArticleSearchCursor.decode(cursor));
+        return new MultipleArticlesResponse(page);
     }
 
     @GetMapping("/api/articles/{slug}")
-    public SingleArticleResponse getSingleArticle(User me, @PathVariable String slug) {
+    public SingleArticleResponse getSingleArticle(CurrentUser me, @PathVariable String slug) {
         ArticleVO article = articleService.getSingleArticle(me, slug);
         return new SingleArticleResponse(article);
     }
@@ -47,54 +97,75 @@ public class ArticleController {
     // it should throw error if slug is not provided in the query parameter
     @PutMapping("/api/articles/{slug}")
     public SingleArticleResponse updateArticle(
-            User me, @PathVariable String slug, @RequestBody UpdateArticleRequest request) {
+            CurrentUser me, @PathVariable String slug, @RequestBody UpdateArticleRequest request) {
         ArticleVO article = articleService.updateArticle(me, slug, request);
         return new SingleArticleResponse(article);
     }
 
     @DeleteMapping("/api/articles/{slug}")
-    public void deleteArticle(User me, @PathVariable String slug) {
+    public void deleteArticle(CurrentUser me, @PathVariable String slug) {
         articleService.deleteArticle(me, slug);
     }
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/api/articles/feed")
-    public MultipleArticlesResponse getFeedArticles(
-            User me,
-            @RequestParam(value = "limit", required = false, defaultValue = "0") int offset,
-            @RequestParam(value = "offset", required = false, defaultValue = "20") int limit) {
-        ArticleFacets facets = new ArticleFacets(null, null, null, offset, limit);
-        List<ArticleVO> articles = articleService.getFeedArticles(me, facets);
-        return new MultipleArticlesResponse(articles);
+    public void getFeedArticles(
+            CurrentUser me,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "offset", required = false) Integer offset,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            HttpServletResponse response)
+            throws IOException {
+        JsonArrayStream articles = new JsonArrayStream(objectMapper, response, "articles");
+        if (cursor != null) {
+            ArticleFacets facets =
+                    new ArticleFacets(null, null, null, 0, requireNonNullElse(limit, 20), ArticleCursor.decode(cursor));
+            String nextCursor = articleService.streamFeedArticlesByCursor(me, facets, articles::write);
+            articles.field("articlesCount", articles.size()).field("nextCursor", nextCursor).close();
+            return;
+        }
+
+        ArticleFacets facets =
+                new ArticleFacets(null, null, null, requireNonNullElse(limit, 0), requireNonNullElse(offset, 20));
+        articleService.streamFeedArticles(me, facets, articles::write);
+        articles.field("articlesCount", articles.size()).close();
     }
 
     @PostMapping("/api/articles/{slug}/comments")
     public SingleCommentResponse createComment(
-            User me, @PathVariable String slug, @RequestBody CreateCommentRequest request) {
+            CurrentUser me, @PathVariable String slug, @RequestBody CreateCommentRequest request) {
         CommentVO comment = articleService.createComment(me, slug, request);
         return new SingleCommentResponse(comment);
     }
 
     @GetMapping("/api/articles/{slug}/comments")
-    public MultipleCommentsResponse getComments(User me, @PathVariable String slug) {
-        List<CommentVO> comments = articleService.getArticleComments(me, slug);
-        return new MultipleCommentsResponse(comments);
+    public void getComments(
+            CurrentUser me,
+            @PathVariable String slug,
+            @RequestParam(value = "limit", required = false, defaultValue = "20") int limit,
+            @RequestParam(value = "before", required = false) String before,
+            HttpServletResponse response)
+            throws IOException {
+        JsonArrayStream comments = new JsonArrayStream(objectMapper, response, "comments");
+        String nextCursor =
+                articleService.streamArticleComments(me, slug, CommentCursor.decode(before), limit, comments::write);
+        comments.field("nextCursor", nextCursor).close();
     }
 
     // this controller is failing to delete a comment due to constraint violation
     @DeleteMapping("/api/articles/{slug}/comments/{id}")
-    public void deleteComment(User me, @PathVariable String slug, @PathVariable int id) {
+    public void deleteComment(CurrentUser me, @PathVariable String slug, @PathVariable int id) {
         articleService.deleteComment(me, id);
     }
 
     @PostMapping("/api/articles/{slug}/favorite")
-    public SingleArticleResponse favoriteArticle(User me, @PathVariable String slug) {
+    public SingleArticleResponse favoriteArticle(CurrentUser me, @PathVariable String slug) {
         ArticleVO article = articleService.favoriteArticle(me, slug);
         return new SingleArticleResponse(article);
     }
 
     @DeleteMapping("/api/articles/{slug}/favorite")
-    public SingleArticleResponse unfavoriteArticle(User me, @PathVariable String slug) {
+    public SingleArticleResponse unfavoriteArticle(CurrentUser me, @PathVariable String slug) {
         ArticleVO article = articleService.unfavoriteArticle(me, slug);
         return new SingleArticleResponse(article);
     }
@@ -0,0 +1,83 @@
+package io.github.shirohoo.realworld.application.article.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes a response body of the form `{"<array>": [...], <fields>}` element by element with the application's
+ * object mapper, so a list is never held as a whole and the first bytes leave before the last element is read.
+ * Nothing touches the response before the first element or field, so a failure while resolving the page still
+ * ends up as a regular error response.
+ */
+class JsonArrayStream {
+    private final ObjectMapper objectMapper;
+    private final HttpServletResponse response;
+    private final String arrayName;
+    private JsonGenerator generator;
+    private boolean arrayEnded;
+    private int size;
+
+    JsonArrayStream(ObjectMapper objectMapper, HttpServletResponse response, String arrayName) {
+        this.objectMapper = objectMapper;
+        this.response = response;
+        this.arrayName = arrayName;
+    }
+
+    void write(Object element) {
+        try {
+            this.start();
+            generator.writeObject(element);
+            size++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Closes the array if it is still open and writes a field after it; null values are left out.
+     */
+    JsonArrayStream field(String name, Object value) throws IOException {
+        this.endArray();
+        if (value != null) {
+            generator.writeObjectField(name, value);
+        }
+        return this;
+    }
+
+    void close() throws IOException {
+        this.endArray();
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    private void start() throws IOException {
+        if (generator != null) {
+            return;
+        }
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        generator = objectMapper.createGenerator(StreamUtils.nonClosing(response.getOutputStream()));
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(arrayName);
+    }
+
+    private void endArray() throws IOException {
+        this.start();
+        if (!arrayEnded) {
+            generator.writeEndArray();
+            arrayEnded = true;
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package io.github.shirohoo.realworld.application.article.controller;
 
+import io.github.shirohoo.realworld.domain.article.ArticlePageVO;
 import io.github.shirohoo.realworld.domain.article.ArticleVO;
 
 import java.util.List;
 
-public record MultipleArticlesResponse(ArticleVO[] articles, int articlesCount) {
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public record MultipleArticlesResponse(
+        ArticleVO[] articles, int articlesCount, @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
     public MultipleArticlesResponse(List<ArticleVO> articles) {
-        this(articles.toArray(ArticleVO[]::new), articles.size());
+        this(articles.toArray(ArticleVO[]::new), articles.size(), null);
+    }
+
+    public MultipleArticlesResponse(List<ArticleVO> articles, long articlesCount) {
+        this(articles.toArray(ArticleVO[]::new), Math.toIntExact(articlesCount), null);
+    }
+
+    public MultipleArticlesResponse(ArticlePageVO page) {
+        this(page.articles().toArray(ArticleVO[]::new), page.articles().size(), page.nextCursor());
     }
 }
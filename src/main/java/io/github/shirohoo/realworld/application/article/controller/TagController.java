@@ -1,11 +1,12 @@
 package io.github.shirohoo.realworld.application.article.controller;
 
 import io.github.shirohoo.realworld.application.article.service.TagService;
-
-import java.util.List;
+import io.github.shirohoo.realworld.domain.article.TagSnapshot;
 
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,8 +16,13 @@ public class TagController {
     private final TagService tagService;
 
     @GetMapping("/api/tags")
-    public ListOfTagsResponse getTags() {
-        List<String> tags = tagService.getTags();
-        return new ListOfTagsResponse(tags);
+    public ListOfTagsResponse getTags(
+            @RequestParam(value = "limit", required = false) Integer limit, WebRequest request) {
+        TagSnapshot tags = tagService.getTags();
+        if (request.checkNotModified(tags.etag(limit))) {
+            return null;
+        }
+
+        return new ListOfTagsResponse(tags.names(limit));
     }
 }
@@ -0,0 +1,79 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import io.github.shirohoo.realworld.application.config.ReplicaRoutingDataSource;
+import io.github.shirohoo.realworld.domain.article.ArticleEvent;
+import io.github.shirohoo.realworld.domain.article.ArticleFacets;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * Approximate `articlesCount` per facet combination, so a list call does not run a `COUNT` next to its page query.
+ * Cached counts are reloaded in the background after article writes, and callers read the previous value meanwhile.
+ * Counts are read from the primary, so a reload does not bring back the count from before the write.
+ */
+@Component
+public class ArticleCountCache {
+    private final LoadingCache<Key, Long> counts;
+
+    public ArticleCountCache(
+            ArticleRepository articleRepository,
+            @Value("${realworld.article.count-cache.maximum-size:10000}") long maximumSize,
+            @Value("${realworld.article.count-cache.refresh-after-write:30s}") Duration refreshAfterWrite) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfterWrite)
+                .build(key -> ReplicaRoutingDataSource.onPrimary(
+                        () -> articleRepository.countByFacets(key.tag(), key.author(), key.favorited())));
+    }
+
+    public long get(ArticleFacets facets) {
+        return counts.get(new Key(facets.tag(), facets.author(), facets.favorited()));
+    }
+
+    /**
+     * Reloads only the counts the written article falls under: those of its author and its tags, and the
+     * unfiltered one. A new article has no favorites yet; a deleted one may have had some. A favorite only moves
+     * the counts filtered by the user who gave or took it back.
+     */
+    @TransactionalEventListener
+    public void on(ArticleEvent event) {
+        if (event instanceof ArticleEvent.Favorited favorited) {
+            this.refresh(key -> key.favoritedBy(favorited.username())
+                    && key.covers(favorited.authorUsername(), favorited.tags()));
+        } else if (event instanceof ArticleEvent.Unfavorited unfavorited) {
+            this.refresh(key -> key.favoritedBy(unfavorited.username())
+                    && key.covers(unfavorited.authorUsername(), unfavorited.tags()));
+        } else if (event instanceof ArticleEvent.Created created) {
+            this.refresh(key -> key.favorited() == null && key.covers(created.authorUsername(), created.tags()));
+        } else if (event instanceof ArticleEvent.Deleted deleted) {
+            this.refresh(key -> key.covers(deleted.authorUsername(), deleted.tags()));
+        }
+    }
+
+    private void refresh(Predicate<Key> affected) {
+        counts.refreshAll(counts.asMap().keySet().stream().filter(affected).toList());
+    }
+
+    private record Key(String tag, String author, String favorited) {
+        // Compared without regard to case, as the database may do; a spare refresh is harmless, a missed one is not.
+        boolean covers(String authorUsername, Set<String> tags) {
+            return (author == null || author.equalsIgnoreCase(authorUsername))
+                    && (tag == null || tags.stream().anyMatch(tag::equalsIgnoreCase));
+        }
+
+        // A user that could not be named refreshes every favorites count rather than miss one.
+        boolean favoritedBy(String username) {
+            return favorited != null && (username == null || favorited.equalsIgnoreCase(username));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import io.github.shirohoo.realworld.application.config.ReplicaRoutingDataSource;
+import io.github.shirohoo.realworld.domain.article.ArticleEvent;
+import io.github.shirohoo.realworld.domain.article.ArticleFacetIndex;
+import io.github.shirohoo.realworld.domain.article.ArticleFacets;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.ArticleTag;
+import io.github.shirohoo.realworld.domain.article.AuthorPosition;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers facet listings from an {@link ArticleFacetIndex} instead of the correlated subqueries of
+ * {@link ArticleRepository#findIdsByFacets}. Enabled with `realworld.article.facet-index.enabled=true`.
+ * A rebuild fills a fresh index from id projections and swaps it in; writes committed meanwhile keep going to the
+ * current index and are replayed on the fresh one before the swap, after every article it read.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "realworld.article.facet-index.enabled", havingValue = "true")
+public class ArticleFacetSearch {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final ArticleRepository articleRepository;
+    private final Object lock = new Object();
+
+    private volatile ArticleFacetIndex index = new ArticleFacetIndex();
+    private List<ArticleEvent> pending;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+
+        try {
+            ArticleFacetIndex fresh = ReplicaRoutingDataSource.onPrimary(this::build);
+            synchronized (lock) {
+                pending.forEach(event -> apply(fresh, event));
+                index = fresh;
+            }
+        } finally {
+            synchronized (lock) {
+                pending = null;
+            }
+        }
+        log.info("Built the article facet index.");
+    }
+
+    /**
+     * Adds articles oldest first, as the index hands out ordinals in that order, a batch at a time by keyset.
+     */
+    private ArticleFacetIndex build() {
+        ArticleFacetIndex fresh = new ArticleFacetIndex();
+        AuthorPosition last = null;
+        List<AuthorPosition> batch;
+        do {
+            batch = articleRepository.findAuthorPositionsAfter(
+                    last == null ? null : last.createdAt(),
+                    last == null ? null : last.id(),
+                    PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<Integer> ids = batch.stream().map(AuthorPosition::id).toList();
+            Map<Integer, List<String>> tags = articleRepository.findTagsByArticleIdIn(ids).stream()
+                    .collect(groupingBy(ArticleTag::articleId, mapping(ArticleTag::name, toList())));
+            batch.forEach(it -> fresh.add(it.id(), it.authorId(), tags.getOrDefault(it.id(), List.of())));
+            articleRepository
+                    .findFavoritesByArticleIdIn(ids)
+                    .forEach(it -> fresh.favorite(it.articleId(), it.userId()));
+            last = batch.get(batch.size() - 1);
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        return fresh;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Integer> findIds(ArticleFacets facets) {
+        long offset = facets.getPageable().getOffset();
+        return this.toQuery(facets)
+                .map(query -> index.findIds(query, offset, facets.limit()))
+                .orElse(List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public long count(ArticleFacets facets) {
+        return this.toQuery(facets).map(index::count).orElse(0L);
+    }
+
+    /**
+     * Applied under the same lock as the swap, so an event reaches either the replay or the index swapped in.
+     */
+    @TransactionalEventListener
+    public void on(ArticleEvent event) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(event);
+            }
+            apply(index, event);
+        }
+    }
+
+    private static void apply(ArticleFacetIndex index, ArticleEvent event) {
+        if (event instanceof ArticleEvent.Created created) {
+            index.add(created.articleId(), created.authorId(), created.tags());
+        } else if (event instanceof ArticleEvent.Deleted deleted) {
+            index.remove(deleted.articleId());
+        } else if (event instanceof ArticleEvent.Favorited favorited) {
+            index.favorite(favorited.articleId(), favorited.userId());
+        } else if (event instanceof ArticleEvent.Unfavorited unfavorited) {
+            index.unfavorite(unfavorited.articleId(), unfavorited.userId());
+        }
+    }
+
+    /**
+     * Resolves the usernames of the facets; an unknown username matches no article.
+     */
+    private Optional<ArticleFacetIndex.Query> toQuery(ArticleFacets facets) {
+        Optional<UUID> author = this.findUserId(facets.author());
+        Optional<UUID> favoritedBy = this.findUserId(facets.favorited());
+        if ((facets.author() != null && author.isEmpty()) || (facets.favorited() != null && favoritedBy.isEmpty())) {
+            return Optional.empty();
+        }
+
+        List<String> tags = facets.tag() == null ? List.of() : List.of(facets.tag());
+        return Optional.of(new ArticleFacetIndex.Query(tags, List.of(), author.orElse(null), favoritedBy.orElse(null)));
+    }
+
+    private Optional<UUID> findUserId(String username) {
+        return username == null ? Optional.empty() : userRepository.findIdByUsername(username);
+    }
+}
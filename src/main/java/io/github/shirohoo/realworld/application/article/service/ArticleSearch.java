@@ -0,0 +1,138 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import io.github.shirohoo.realworld.application.config.ReplicaRoutingDataSource;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleEvent;
+import io.github.shirohoo.realworld.domain.article.ArticleFacets;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.ArticleSearchIndex;
+import io.github.shirohoo.realworld.domain.article.ArticleText;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps an {@link ArticleSearchIndex} in step with committed article writes.
+ * Rankings that are paged through are kept as snapshots for a while, so later pages follow the ranking of the first
+ * page even when scores shift in between. Snapshots live on the node that ranked them; a page served elsewhere, or
+ * after the snapshot expired, resumes after the same `(score, id)` in a fresh ranking and may skip or repeat hits.
+ */
+@Slf4j
+@Component
+public class ArticleSearch {
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ArticleSearchIndex index = new ArticleSearchIndex();
+    private final ArticleRepository articleRepository;
+    private final int maxResults;
+    private final Cache<String, Snapshot> snapshots;
+
+    public ArticleSearch(
+            ArticleRepository articleRepository,
+            @Value("${realworld.article.search.max-results:1000}") int maxResults,
+            @Value("${realworld.article.search.snapshot-ttl:5m}") Duration snapshotTtl,
+            @Value("${realworld.article.search.snapshot-maximum-hits:1000000}") long snapshotMaximumHits) {
+        this.articleRepository = articleRepository;
+        this.maxResults = maxResults;
+        this.snapshots = Caffeine.newBuilder()
+                .expireAfterWrite(snapshotTtl)
+                .maximumWeight(snapshotMaximumHits)
+                .weigher((String key, Snapshot snapshot) -> snapshot.hits().size())
+                .build();
+    }
+
+    public List<ArticleSearchIndex.Hit> search(String query) {
+        return index.search(query, maxResults);
+    }
+
+    /**
+     * Ranks only the articles accepted by `filter`, so the result cap applies to what is left after filtering.
+     */
+    public List<ArticleSearchIndex.Hit> search(String query, Predicate<Integer> filter) {
+        return index.search(query, maxResults, filter);
+    }
+
+    /**
+     * Keeps `hits` as the ranking of `request` and returns the name to find it again.
+     */
+    public String snapshot(Request request, List<ArticleSearchIndex.Hit> hits) {
+        String name = UUID.randomUUID().toString();
+        snapshots.put(name, new Snapshot(request, List.copyOf(hits)));
+        return name;
+    }
+
+    /**
+     * Finds a ranking kept by {@link #snapshot}, as long as it was taken for an equal `request`.
+     */
+    public Optional<List<ArticleSearchIndex.Hit>> findSnapshot(String name, Request request) {
+        if (name == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(snapshots.getIfPresent(name))
+                .filter(snapshot -> snapshot.request().equals(request))
+                .map(Snapshot::hits);
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ReplicaRoutingDataSource.onPrimary(() -> {
+            index.clear();
+            // Keyset paging over a projection: no COUNT or OFFSET per batch, and nothing piles up in the session.
+            Integer last = null;
+            List<ArticleText> batch;
+            do {
+                batch = articleRepository.findTextsAfter(last, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+                batch.forEach(it -> index.put(it.id(), it.title(), it.description(), it.content()));
+                last = batch.isEmpty() ? last : batch.get(batch.size() - 1).id();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        });
+        log.info("Built the article search index.");
+    }
+
+    /**
+     * Runs while the write completes, so its reads are served by the primary.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void on(ArticleEvent event) {
+        if (event instanceof ArticleEvent.Created || event instanceof ArticleEvent.Updated) {
+            articleRepository.findById(event.articleId()).ifPresent(this::put);
+        } else if (event instanceof ArticleEvent.Deleted) {
+            index.remove(event.articleId());
+        }
+    }
+
+    private void put(Article article) {
+        index.put(article.id(), article.title(), article.description(), article.content());
+    }
+
+    /**
+     * What a ranking was asked for; two pages share a snapshot only when they ask for the same.
+     */
+    public record Request(String query, String tag, String author, String favorited) {
+        public static Request of(String query, ArticleFacets facets) {
+            return new Request(query, facets.tag(), facets.author(), facets.favorited());
+        }
+    }
+
+    private record Snapshot(Request request, List<ArticleSearchIndex.Hit> hits) {}
+}
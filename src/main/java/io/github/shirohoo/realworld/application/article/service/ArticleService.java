@@ -1,19 +1,34 @@
 package io.github.shirohoo.realworld.application.article.service;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
 import io.github.shirohoo.realworld.application.article.controller.CreateArticleRequest;
 import io.github.shirohoo.realworld.application.article.controller.CreateCommentRequest;
 import io.github.shirohoo.realworld.application.article.controller.UpdateArticleRequest;
+import io.github.shirohoo.realworld.application.user.service.ViewerContextService;
 import io.github.shirohoo.realworld.domain.article.*;
-import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
 import io.github.shirohoo.realworld.domain.user.UserRepository;
+import io.github.shirohoo.realworld.domain.user.ViewerContext;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
 
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,74 +37,295 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class ArticleService {
-    private final TagRepository tagRepository;
-    private final UserRepository userRepository;
+    private static final int STREAM_CHUNK_SIZE = 20;
+
+    private final TagDictionary tagDictionary;
     private final ArticleRepository articleRepository;
     private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final ViewerContextService viewerContextService;
+    private final FeedEngine feedEngine;
+    private final ArticleCountCache articleCountCache;
+    private final ArticleSlugCache articleSlugCache;
+    private final ArticleSearch articleSearch;
+    private final Optional<ArticleFacetSearch> articleFacetSearch;
+    private final Optional<ArticleProjectionReader> articleProjectionReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     @Transactional(readOnly = true)
-    public ArticleVO getSingleArticle(User me, String slug) {
-        return articleRepository
-                .findBySlug(slug)
-                .map(article -> new ArticleVO(me, article))
+    public ArticleVO getSingleArticle(CurrentUser me, String slug) {
+        ArticleSnapshot snapshot = articleSlugCache
+                .get(slug)
                 .orElseThrow(() -> new NoSuchElementException("Article not found: `%s`".formatted(slug)));
+
+        ViewerContext viewer = viewerContextService.forArticle(me, snapshot.id(), snapshot.authorId());
+        return snapshot.viewedBy(viewer);
     }
 
     @Transactional(readOnly = true)
-    public List<ArticleVO> getArticles(User me, ArticleFacets facets) {
+    public List<ArticleVO> getArticles(CurrentUser me, ArticleFacets facets) {
+        List<ArticleVO> articles = new ArrayList<>();
+        this.streamArticles(me, facets, articles::add);
+        return articles;
+    }
+
+    /**
+     * Hands the articles of a page to `action` one by one, as they are read, instead of collecting them first.
+     */
+    @Transactional(readOnly = true)
+    public void streamArticles(CurrentUser me, ArticleFacets facets, Consumer<ArticleVO> action) {
+        List<Integer> ids =
+                articleFacetSearch.map(search -> search.findIds(facets)).orElseGet(() -> this.findIdsByFacets(facets));
+        this.streamInOrder(me, ids, action);
+    }
+
+    private List<Integer> findIdsByFacets(ArticleFacets facets) {
         String tag = facets.tag();
         String author = facets.author();
         String favorited = facets.favorited();
         Pageable pageable = facets.getPageable();
 
-        Page<Article> byFacets = articleRepository.findByFacets(tag, author, favorited, pageable);
-        return byFacets.getContent().stream()
-                .map(article -> new ArticleVO(me, article))
-                .toList();
+        Slice<Integer> ids = articleRepository.findIdsByFacets(tag, author, favorited, pageable);
+        return ids.getContent();
+    }
+
+    public long countArticles(ArticleFacets facets) {
+        return articleFacetSearch.map(search -> search.count(facets)).orElseGet(() -> articleCountCache.get(facets));
     }
 
     @Transactional(readOnly = true)
-    public List<ArticleVO> getFeedArticles(User me, ArticleFacets facets) {
-        List<User> followings = userRepository.findByFollowers(me);
-        Pageable pageable = facets.getPageable();
+    public ArticlePageVO getArticlesByCursor(CurrentUser me, ArticleFacets facets) {
+        List<ArticleVO> articles = new ArrayList<>();
+        String nextCursor = this.streamArticlesByCursor(me, facets, articles::add);
+        return new ArticlePageVO(articles, nextCursor);
+    }
 
-        return articleRepository
-                .findByAuthorInOrderByCreatedAtDesc(followings, pageable)
-                .map(article -> new ArticleVO(me, article))
-                .getContent();
+    /**
+     * Streaming counterpart of {@link #getArticlesByCursor}; returns the cursor of the next page, or null on the last.
+     */
+    @Transactional(readOnly = true)
+    public String streamArticlesByCursor(CurrentUser me, ArticleFacets facets, Consumer<ArticleVO> action) {
+        ArticleCursor cursor = facets.cursor();
+        List<Integer> ids = articleRepository.findIdsByFacetsAfter(
+                facets.tag(),
+                facets.author(),
+                facets.favorited(),
+                cursor.createdAt(),
+                cursor.id(),
+                facets.getCursorPageable());
+        return this.streamPage(me, ids, facets.limit(), action);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArticleVO> getFeedArticles(CurrentUser me, ArticleFacets facets) {
+        List<ArticleVO> articles = new ArrayList<>();
+        this.streamFeedArticles(me, facets, articles::add);
+        return articles;
+    }
+
+    @Transactional(readOnly = true)
+    public void streamFeedArticles(CurrentUser me, ArticleFacets facets, Consumer<ArticleVO> action) {
+        List<Integer> ids = feedEngine.findIds(me, ArticleCursor.first(), facets.getPageable());
+        this.streamInOrder(me, ids, action);
+    }
+
+    @Transactional(readOnly = true)
+    public ArticlePageVO getFeedArticlesByCursor(CurrentUser me, ArticleFacets facets) {
+        List<ArticleVO> articles = new ArrayList<>();
+        String nextCursor = this.streamFeedArticlesByCursor(me, facets, articles::add);
+        return new ArticlePageVO(articles, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public String streamFeedArticlesByCursor(CurrentUser me, ArticleFacets facets, Consumer<ArticleVO> action) {
+        List<Integer> ids = feedEngine.findIds(me, facets.cursor(), facets.getCursorPageable());
+        return this.streamPage(me, ids, facets.limit(), action);
+    }
+
+    /**
+     * Ranks articles by relevance to `query`, narrowed by the filters of `facets` and paged after `cursor`.
+     * Pages after the first are cut from the ranking the first page was cut from, while {@link ArticleSearch} keeps it.
+     */
+    @Transactional(readOnly = true)
+    public ArticlePageVO searchArticles(
+            CurrentUser me, String query, ArticleFacets facets, ArticleSearchCursor cursor) {
+        ArticleSearch.Request request = ArticleSearch.Request.of(query, facets);
+        String snapshot = cursor.snapshot();
+        List<ArticleSearchIndex.Hit> hits = articleSearch.findSnapshot(snapshot, request).orElse(null);
+        if (hits == null) {
+            hits = this.rank(query, facets);
+            snapshot = null;
+        }
+
+        int limit = facets.limit();
+        List<ArticleSearchIndex.Hit> page = hits.stream().filter(cursor::precedes).limit(limit + 1).toList();
+        boolean hasNext = page.size() > limit;
+        if (hasNext) {
+            page = page.subList(0, limit);
+            if (snapshot == null) {
+                snapshot = articleSearch.snapshot(request, hits);
+            }
+        }
+
+        List<Article> articles = this.findAllInOrder(page.stream().map(ArticleSearchIndex.Hit::articleId).toList());
+        String nextCursor = hasNext ? ArticleSearchCursor.of(snapshot, page.get(page.size() - 1)).encode() : null;
+        return new ArticlePageVO(this.toArticleVOs(me, articles), nextCursor);
+    }
+
+    /**
+     * Filters come first, so the cap on hits is spent on articles that can be shown.
+     */
+    private List<ArticleSearchIndex.Hit> rank(String query, ArticleFacets facets) {
+        if (!facets.hasFilters()) {
+            return articleSearch.search(query);
+        }
+
+        Set<Integer> matching = articleRepository.findIdsByFacets(facets.tag(), facets.author(), facets.favorited());
+        return matching.isEmpty() ? List.of() : articleSearch.search(query, matching::contains);
+    }
+
+    private String streamPage(CurrentUser me, List<Integer> ids, int limit, Consumer<ArticleVO> action) {
+        boolean hasNext = ids.size() > limit;
+        ArticleCursor last = this.streamInOrder(me, hasNext ? ids.subList(0, limit) : ids, action);
+        return hasNext && !last.isFirst() ? last.encode() : null;
+    }
+
+    /**
+     * Reads the articles of a page that was resolved to ids, newest first, through a forward-only scroll.
+     * Viewer state is looked up per chunk, and each chunk is detached from the persistence context once it has been
+     * handed over, so neither the entities nor the mapped articles are held all at once.
+     * Returns the position of the last article handed over.
+     */
+    private ArticleCursor streamInOrder(CurrentUser me, List<Integer> ids, Consumer<ArticleVO> action) {
+        if (ids.isEmpty()) {
+            return ArticleCursor.first();
+        }
+
+        if (articleProjectionReader.isPresent()) {
+            return this.streamProjectionsInOrder(articleProjectionReader.get(), me, ids, action);
+        }
+
+        try (Stream<Article> articles = articleRepository.streamWithAuthorByIdIn(ids)) {
+            Article last = forEachChunk(articles.iterator(), ids.size(), chunk -> {
+                ViewerContext viewer = viewerContextService.forArticles(me, chunk);
+                chunk.forEach(article -> action.accept(new ArticleVO(viewer, article)));
+                chunk.forEach(entityManager::detach);
+            });
+            return last == null ? ArticleCursor.first() : ArticleCursor.of(last);
+        }
+    }
+
+    private ArticleCursor streamProjectionsInOrder(
+            ArticleProjectionReader reader, CurrentUser me, List<Integer> ids, Consumer<ArticleVO> action) {
+        try (Stream<ArticleSnapshot> snapshots = reader.streamByIdIn(ids)) {
+            ArticleSnapshot last = forEachChunk(snapshots.iterator(), ids.size(), chunk -> {
+                ViewerContext viewer = viewerContextService.forSnapshots(me, chunk);
+                chunk.forEach(snapshot -> action.accept(snapshot.viewedBy(viewer)));
+            });
+            return last == null ? ArticleCursor.first() : new ArticleCursor(last.article().createdAt(), last.id());
+        }
+    }
+
+    /**
+     * Hands up to `maxSize` elements of `iterator` to `action` in chunks and returns the last one, or null if none.
+     */
+    private static <T> T forEachChunk(Iterator<T> iterator, int maxSize, Consumer<List<T>> action) {
+        List<T> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        T last = null;
+        for (int i = 0; i < maxSize && iterator.hasNext(); i++) {
+            last = iterator.next();
+            chunk.add(last);
+            if (chunk.size() == STREAM_CHUNK_SIZE) {
+                action.accept(chunk);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            action.accept(chunk);
+        }
+        return last;
+    }
+
+    private List<ArticleVO> toArticleVOs(CurrentUser me, List<Article> articles) {
+        ViewerContext viewer = viewerContextService.forArticles(me, articles);
+        return articles.stream().map(article -> new ArticleVO(viewer, article)).toList();
+    }
+
+    private ArticleVO toArticleVO(CurrentUser me, Article article) {
+        ViewerContext viewer = viewerContextService.forArticles(me, List.of(article));
+        return new ArticleVO(viewer, article);
+    }
+
+    /**
+     * Loads the articles of a page that was resolved to ids, keeping the order of the ids.
+     */
+    private List<Article> findAllInOrder(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Integer, Article> articles = articleRepository.findAllWithAuthorAndTagsByIdIn(ids).stream()
+                .collect(toMap(Article::id, identity()));
+        return ids.stream().map(articles::get).filter(Objects::nonNull).toList();
     }
 
     @Transactional
-    public ArticleVO createArticle(User me, CreateArticleRequest request) {
+    public ArticleVO createArticle(CurrentUser me, CreateArticleRequest request) {
         Article newArticle = Article.builder()
-                .author(me)
+                .author(userRepository.getReferenceById(me.id()))
                 .title(request.title())
                 .description(request.description())
                 .content(request.body())
-                .tags(new HashSet<>(tagRepository.saveAll(request.tags())))
+                .tags(tagDictionary.resolve(request.tags()))
                 .build();
 
         newArticle = articleRepository.save(newArticle);
-        return new ArticleVO(me, newArticle);
+        eventPublisher.publishEvent(new ArticleEvent.Created(
+                newArticle.id(),
+                newArticle.slug(),
+                me.id(),
+                newArticle.author().username(),
+                Set.of(newArticle.tags())));
+        return this.toArticleVO(me, newArticle);
     }
 
     @Transactional
-    public ArticleVO updateArticle(User me, String slug, UpdateArticleRequest request) {
+    public ArticleVO updateArticle(CurrentUser me, String slug, UpdateArticleRequest request) {
         return articleRepository
                 .findBySlug(slug)
-                .map(it -> it.update(me, request.title(), request.description(), request.body()))
-                .map(it -> new ArticleVO(me, articleRepository.save(it)))
+                .map(it -> it.update(
+                        userRepository.getReferenceById(me.id()),
+                        request.title(),
+                        request.description(),
+                        request.body()))
+                .map(articleRepository::save)
+                .map(it -> {
+                    eventPublisher.publishEvent(new ArticleEvent.Updated(it.id(), slug, it.slug()));
+                    return this.toArticleVO(me, it);
+                })
                 .orElseThrow(() -> new NoSuchElementException("Article not found by slug: `%s`".formatted(slug)));
     }
 
     @Transactional
-    public void deleteArticle(User me, String slug) {
+    public void deleteArticle(CurrentUser me, String slug) {
         articleRepository
                 .findBySlug(slug)
                 .ifPresentOrElse(
                         article -> {
-                            if (article.isWritten(me)) articleRepository.delete(article);
-                            else throw new IllegalArgumentException("You can't delete articles written by others.");
+                            if (!article.isWritten(userRepository.getReferenceById(me.id()))) {
+                                throw new IllegalArgumentException("You can't delete articles written by others.");
+                            }
+
+                            ArticleEvent.Deleted deleted = new ArticleEvent.Deleted(
+                                    article.id(),
+                                    article.slug(),
+                                    article.author().id(),
+                                    article.author().username(),
+                                    Set.of(article.tags()));
+                            articleRepository.delete(article);
+                            eventPublisher.publishEvent(deleted);
                         },
                         () -> {
                             throw new NoSuchElementException("Article not found by slug: `%s`".formatted(slug));
@@ -97,37 +333,74 @@ public class ArticleService {
     }
 
     @Transactional
-    public CommentVO createComment(User me, String slug, CreateCommentRequest request) {
+    public CommentVO createComment(CurrentUser me, String slug, CreateCommentRequest request) {
         return articleRepository
                 .findBySlug(slug)
-                .map(article -> Comment.builder()
-                        .author(me)
-                        .article(article)
-                        .content(request.body())
-                        .build())
-                .map(commentRepository::save)
-                .map(c -> new CommentVO(me, c))
+                .map(article -> {
+                    Comment comment = commentRepository.save(Comment.builder()
+                            .author(userRepository.getReferenceById(me.id()))
+                            .article(article)
+                            .content(request.body())
+                            .build());
+                    articleRepository.incrementCommentsCount(article.id());
+                    article.increaseCommentsCount();
+                    eventPublisher.publishEvent(new ArticleEvent.Commented(article.id(), slug, comment.id()));
+                    return new CommentVO(viewerContextService.forComments(me, List.of(comment)), comment);
+                })
                 .orElseThrow(() -> new NoSuchElementException("Article not found by slug: `%s`".formatted(slug)));
     }
 
-    @Transactional
-    public List<CommentVO> getArticleComments(User me, String slug) {
-        return articleRepository.findBySlug(slug)
-                .map(commentRepository::findByArticleOrderByCreatedAtDesc)
-                .orElseThrow(() -> new NoSuchElementException("Article not found by slug: `%s`".formatted(slug)))
-                .stream()
-                .map(comment -> new CommentVO(me, comment))
-                .toList();
+    /**
+     * Returns up to `limit` comments of the article, newest first, that were written before the `before` position.
+     */
+    @Transactional(readOnly = true)
+    public CommentPageVO getArticleComments(CurrentUser me, String slug, CommentCursor before, int limit) {
+        List<CommentVO> comments = new ArrayList<>();
+        String nextCursor = this.streamArticleComments(me, slug, before, limit, comments::add);
+        return new CommentPageVO(comments, nextCursor);
+    }
+
+    /**
+     * Streaming counterpart of {@link #getArticleComments}; returns the cursor of the next page, or null on the last.
+     */
+    @Transactional(readOnly = true)
+    public String streamArticleComments(
+            CurrentUser me, String slug, CommentCursor before, int limit, Consumer<CommentVO> action) {
+        Article article = articleRepository
+                .findBySlug(slug)
+                .orElseThrow(() -> new NoSuchElementException("Article not found by slug: `%s`".formatted(slug)));
+
+        int size = limit <= 0 ? 20 : Math.min(limit, 100);
+        try (Stream<Comment> comments = commentRepository.streamWithAuthorByArticleBefore(
+                article, before.createdAt(), before.id(), PageRequest.ofSize(size + 1))) {
+            Iterator<Comment> iterator = comments.iterator();
+            Comment last = forEachChunk(iterator, size, chunk -> {
+                ViewerContext viewer = viewerContextService.forComments(me, chunk);
+                chunk.forEach(comment -> action.accept(new CommentVO(viewer, comment)));
+                chunk.forEach(entityManager::detach);
+            });
+            return iterator.hasNext() ? CommentCursor.of(last).encode() : null;
+        }
     }
 
     @Transactional
-    public void deleteComment(User me, int commentId) {
+    public void deleteComment(CurrentUser me, int commentId) {
         commentRepository
                 .findById(commentId)
                 .ifPresentOrElse(
                         comment -> {
-                            if (comment.isWritten(me)) commentRepository.delete(comment);
-                            else throw new IllegalArgumentException("You can't delete comments written by others.");
+                            if (!comment.isWritten(userRepository.getReferenceById(me.id()))) {
+                                throw new IllegalArgumentException("You can't delete comments written by others.");
+                            }
+
+                            commentRepository.delete(comment);
+                            Article article = comment.article();
+                            if (article != null) {
+                                articleRepository.decrementCommentsCount(article.id());
+                                article.decreaseCommentsCount();
+                                eventPublisher.publishEvent(
+                                        new ArticleEvent.CommentDeleted(article.id(), article.slug(), commentId));
+                            }
                         },
                         () -> {
                             throw new NoSuchElementException("Comment not found by id: `%d`".formatted(commentId));
@@ -135,18 +408,45 @@ public class ArticleService {
     }
 
     @Transactional
-    public ArticleVO favoriteArticle(User me, String slug) {
+    public ArticleVO favoriteArticle(CurrentUser me, String slug) {
         return articleRepository
                 .findBySlug(slug)
-                .map(article -> new ArticleVO(me, article.favorite(me)))
+                .map(article -> {
+                    // Write the join row and the counter directly so the favorites collection is never loaded.
+                    if (articleRepository.insertFavorite(article.id(), me.id()) > 0) {
+                        articleRepository.incrementFavoritesCount(article.id());
+                        article.increaseFavoritesCount();
+                        eventPublisher.publishEvent(new ArticleEvent.Favorited(
+                                article.id(),
+                                slug,
+                                me.id(),
+                                userRepository.findUsernameById(me.id()).orElse(null),
+                                article.author().username(),
+                                Set.of(article.tags())));
+                    }
+                    return this.toArticleVO(me, article);
+                })
                 .orElseThrow(() -> new NoSuchElementException("Article not found by slug: `%s`".formatted(slug)));
     }
 
     @Transactional
-    public ArticleVO unfavoriteArticle(User me, String slug) {
+    public ArticleVO unfavoriteArticle(CurrentUser me, String slug) {
         return articleRepository
                 .findBySlug(slug)
-                .map(article -> new ArticleVO(me, article.unfavorite(me)))
+                .map(article -> {
+                    if (articleRepository.deleteFavorite(article.id(), me.id()) > 0) {
+                        articleRepository.decrementFavoritesCount(article.id());
+                        article.decreaseFavoritesCount();
+                        eventPublisher.publishEvent(new ArticleEvent.Unfavorited(
+                                article.id(),
+                                slug,
+                                me.id(),
+                                userRepository.findUsernameById(me.id()).orElse(null),
+                                article.author().username(),
+                                Set.of(article.tags())));
+                    }
+                    return this.toArticleVO(me, article);
+                })
                 .orElseThrow(() -> new NoSuchElementException("Article not found by slug: `%s`".formatted(slug)));
     }
 }
@@ -0,0 +1,95 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import io.github.shirohoo.realworld.application.config.ReplicaRoutingDataSource;
+import io.github.shirohoo.realworld.domain.article.ArticleEvent;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.ArticleSnapshot;
+import io.github.shirohoo.realworld.domain.user.UserEvent;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache of {@link ArticleSnapshot}s by slug. Unknown slugs are cached too, for a shorter time.
+ * Entries are dropped when their article is written or its author updates their profile, and are loaded from the
+ * primary, so a lagging replica cannot put the version from before the write back.
+ * Hit, miss and eviction counts are published as `cache.*` metrics tagged `cache=articles.by-slug`.
+ */
+@Component
+public class ArticleSlugCache {
+    private final LoadingCache<String, Optional<ArticleSnapshot>> articles;
+
+    public ArticleSlugCache(
+            ArticleRepository articleRepository,
+            MeterRegistry meterRegistry,
+            @Value("${realworld.article.slug-cache.maximum-size:10000}") long maximumSize,
+            @Value("${realworld.article.slug-cache.ttl:10m}") Duration ttl,
+            @Value("${realworld.article.slug-cache.not-found-ttl:5s}") Duration notFoundTtl) {
+        this.articles = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Optional<ArticleSnapshot>>() {
+                    @Override
+                    public long expireAfterCreate(String slug, Optional<ArticleSnapshot> article, long currentTime) {
+                        return (article.isPresent() ? ttl : notFoundTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(
+                            String slug, Optional<ArticleSnapshot> article, long currentTime, long currentDuration) {
+                        return this.expireAfterCreate(slug, article, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(
+                            String slug, Optional<ArticleSnapshot> article, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build(slug -> ReplicaRoutingDataSource.onPrimary(
+                        () -> articleRepository.findWithAuthorAndTagsBySlug(slug).map(ArticleSnapshot::of)));
+        CaffeineCacheMetrics.monitor(meterRegistry, articles, "articles.by-slug");
+    }
+
+    public Optional<ArticleSnapshot> get(String slug) {
+        return articles.get(slug);
+    }
+
+    /**
+     * Runs after rollbacks as well as commits; dropping an entry that did not change is harmless.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void on(ArticleEvent event) {
+        articles.invalidate(event.slug());
+        if (event instanceof ArticleEvent.Updated updated) {
+            articles.invalidate(updated.previousSlug());
+        }
+    }
+
+    /**
+     * Snapshots embed the author's profile, so a profile update drops every cached article of that author.
+     * This walks the whole cache, which is fine for how rarely profiles change.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void on(UserEvent event) {
+        if (event instanceof UserEvent.Updated updated) {
+            UUID authorId = updated.userId();
+            articles.asMap()
+                    .values()
+                    .removeIf(article -> article.map(it -> it.authorId().equals(authorId)).orElse(false));
+        }
+    }
+}
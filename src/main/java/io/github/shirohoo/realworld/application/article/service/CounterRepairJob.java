@@ -0,0 +1,35 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Brings `article.favorites_count` and `article.comments_count` back in line with `article_favorites` and `comment`,
+ * e.g. after rows were changed by hand.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterRepairJob {
+    private final ArticleRepository articleRepository;
+
+    @Transactional
+    @Scheduled(cron = "${realworld.article.counter-repair.cron:0 0 4 * * *}")
+    public void repair() {
+        int repaired = articleRepository.repairFavoritesCount();
+        if (repaired > 0) {
+            log.warn("Repaired favorites_count of `{}` articles.", repaired);
+        }
+
+        repaired = articleRepository.repairCommentsCount();
+        if (repaired > 0) {
+            log.warn("Repaired comments_count of `{}` articles.", repaired);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import io.github.shirohoo.realworld.domain.article.ArticleCursor;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Resolves a page of the viewer's home feed to article ids, newest first.
+ * The engine is chosen with `realworld.article.feed.engine`.
+ */
+public interface FeedEngine {
+    List<Integer> findIds(CurrentUser me, ArticleCursor cursor, Pageable pageable);
+}
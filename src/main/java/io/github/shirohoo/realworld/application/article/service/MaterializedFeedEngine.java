@@ -0,0 +1,135 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import io.github.shirohoo.realworld.domain.article.ArticleCursor;
+import io.github.shirohoo.realworld.domain.article.ArticleEvent;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.FeedEntryRepository;
+import io.github.shirohoo.realworld.domain.article.FeedPullAuthorRepository;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
+import io.github.shirohoo.realworld.domain.user.UserEvent;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves the feed from the `feed_entry` table, which a background worker fills when articles are created.
+ * Authors with more followers than `realworld.article.feed.fan-out-threshold` are not fanned out;
+ * their articles are pulled on read and merged into the page. The push or pull mode of an author is decided
+ * when they publish and kept in `feed_pull_author`, so all nodes agree on it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "realworld.article.feed.engine", havingValue = "materialized")
+public class MaterializedFeedEngine implements FeedEngine {
+    private final UserRepository userRepository;
+    private final ArticleRepository articleRepository;
+    private final FeedEntryRepository feedEntryRepository;
+    private final FeedPullAuthorRepository feedPullAuthorRepository;
+    private final long fanOutThreshold;
+
+    public MaterializedFeedEngine(
+            UserRepository userRepository,
+            ArticleRepository articleRepository,
+            FeedEntryRepository feedEntryRepository,
+            FeedPullAuthorRepository feedPullAuthorRepository,
+            @Value("${realworld.article.feed.fan-out-threshold:1000}") long fanOutThreshold) {
+        this.userRepository = userRepository;
+        this.articleRepository = articleRepository;
+        this.feedEntryRepository = feedEntryRepository;
+        this.feedPullAuthorRepository = feedPullAuthorRepository;
+        this.fanOutThreshold = fanOutThreshold;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Integer> findIds(CurrentUser me, ArticleCursor cursor, Pageable pageable) {
+        Set<UUID> pulled = feedPullAuthorRepository.findFollowedBy(me.id());
+        if (pulled.isEmpty()) {
+            return feedEntryRepository.findPositions(me.id(), cursor.createdAt(), cursor.id(), pageable).stream()
+                    .map(ArticleCursor::id)
+                    .toList();
+        }
+
+        // Both sources are ordered, so the first `offset + size` rows of each are enough to cut the page.
+        Pageable head = PageRequest.ofSize((int) pageable.getOffset() + pageable.getPageSize());
+        return Stream.concat(
+                        feedEntryRepository.findPositions(me.id(), cursor.createdAt(), cursor.id(), head).stream(),
+                        articleRepository
+                                .findPositionsByAuthorIdIn(pulled, cursor.createdAt(), cursor.id(), head)
+                                .stream())
+                .distinct()
+                .sorted(ArticleCursor.NEWEST_FIRST)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(ArticleCursor::id)
+                .toList();
+    }
+
+    /**
+     * Catches the tables up with writes made while no node was watching, e.g. before this engine was switched on:
+     * puts authors past the threshold into pull mode, then fans out the articles of everyone else. Both steps skip
+     * what is already there, so every startup can run them; the fan-out scans every follow once.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        feedPullAuthorRepository.insertAuthorsWithMoreFollowersThan(fanOutThreshold);
+        int entries = feedEntryRepository.fanOutAll();
+        log.info("Caught the materialized feed up with `{}` missing entries.", entries);
+    }
+
+    @Async("feedFanOutExecutor")
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fanOut(ArticleEvent.Created created) {
+        UUID authorId = created.authorId();
+        if (userRepository.countFollowers(authorId) > fanOutThreshold) {
+            feedPullAuthorRepository.insert(authorId);
+            return;
+        }
+
+        // An author back under the threshold is pushed again, including the articles that were only pulled so far.
+        if (feedPullAuthorRepository.deleteByAuthorId(authorId) > 0) {
+            feedEntryRepository.fanOutAuthor(authorId);
+            return;
+        }
+
+        feedEntryRepository.fanOut(created.articleId());
+    }
+
+    @Async("feedFanOutExecutor")
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void prune(ArticleEvent.Deleted deleted) {
+        feedEntryRepository.deleteByArticleId(deleted.articleId());
+    }
+
+    /**
+     * Follow changes are applied in the transaction of the follow itself, so the next feed read already reflects them.
+     */
+    @EventListener
+    public void on(UserEvent event) {
+        if (event instanceof UserEvent.Followed followed) {
+            feedEntryRepository.backfill(followed.followerId(), followed.followingId());
+        } else if (event instanceof UserEvent.Unfollowed unfollowed) {
+            feedEntryRepository.prune(unfollowed.followerId(), unfollowed.followingId());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import io.github.shirohoo.realworld.domain.article.TagRepository;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes tags that no article uses anymore, e.g. after the last article carrying them was deleted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanTagPruningJob {
+    private final TagService tagService;
+    private final TagRepository tagRepository;
+
+    @Transactional
+    @Scheduled(cron = "${realworld.tag.orphan-prune-cron:0 30 4 * * *}")
+    public void prune() {
+        int pruned = tagRepository.deleteOrphans();
+        if (pruned > 0) {
+            log.info("Pruned `{}` orphan tags.", pruned);
+            tagService.refresh();
+        }
+    }
+}
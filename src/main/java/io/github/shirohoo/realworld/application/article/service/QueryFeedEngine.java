@@ -0,0 +1,38 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import io.github.shirohoo.realworld.domain.article.ArticleCursor;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds the feed on read with an `author IN (...)` over everyone the viewer follows.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "realworld.article.feed.engine", havingValue = "query", matchIfMissing = true)
+public class QueryFeedEngine implements FeedEngine {
+    private final UserRepository userRepository;
+    private final ArticleRepository articleRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Integer> findIds(CurrentUser me, ArticleCursor cursor, Pageable pageable) {
+        List<User> followings = userRepository.findByFollowers(userRepository.getReferenceById(me.id()));
+        if (followings.isEmpty()) {
+            return List.of();
+        }
+
+        return articleRepository.findIdsByAuthorInAfter(followings, cursor.createdAt(), cursor.id(), pageable);
+    }
+}
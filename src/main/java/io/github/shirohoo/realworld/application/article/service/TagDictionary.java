@@ -0,0 +1,59 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import static java.util.stream.Collectors.toSet;
+
+import io.github.shirohoo.realworld.domain.article.Tag;
+import io.github.shirohoo.realworld.domain.article.TagRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves tag names to managed {@link Tag}s in two round trips however many names there are, creating the
+ * missing ones: one batch of inserts and one lookup.
+ */
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+    private static final String INSERT_TAG = "INSERT IGNORE INTO tag (name) VALUES (?)";
+
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public Set<Tag> resolve(Collection<String> names) {
+        if (names.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        this.insertMissing(List.copyOf(names));
+        Set<Tag> tags = new HashSet<>(tagRepository.findByNameIn(names));
+
+        // An existing tag can be pruned as an orphan between the insert and the lookup; create it again.
+        if (tags.size() < names.size()) {
+            Set<String> found = tags.stream().map(Tag::name).collect(toSet());
+            List<String> gone = names.stream().filter(name -> !found.contains(name)).toList();
+            this.insertMissing(gone);
+            tags.addAll(tagRepository.findByNameIn(gone));
+        }
+        return tags;
+    }
+
+    /**
+     * Inserts the names in one JDBC batch. `INSERT IGNORE` lets concurrent creators of the same tag both succeed.
+     */
+    private void insertMissing(List<String> names) {
+        List<Object[]> rows = new ArrayList<>(names.size());
+        names.forEach(name -> rows.add(new Object[] {name}));
+        jdbcTemplate.batchUpdate(INSERT_TAG, rows);
+    }
+}
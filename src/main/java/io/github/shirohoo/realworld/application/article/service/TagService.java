@@ -1,22 +1,48 @@
 package io.github.shirohoo.realworld.application.article.service;
 
-import io.github.shirohoo.realworld.domain.article.Tag;
+import io.github.shirohoo.realworld.domain.article.ArticleEvent;
 import io.github.shirohoo.realworld.domain.article.TagRepository;
+import io.github.shirohoo.realworld.domain.article.TagSnapshot;
 
-import java.util.List;
+import java.time.Duration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 
+/**
+ * Serves tags from a snapshot. A stale snapshot keeps being served while a fresh one is loaded in the background.
+ */
 @Service
-@RequiredArgsConstructor
 public class TagService {
-    private final TagRepository tagRepository;
+    private static final String SNAPSHOT = "tags";
 
-    @Transactional(readOnly = true)
-    public List<String> getTags() {
-        return tagRepository.findAll().stream().map(Tag::name).toList();
+    private final LoadingCache<String, TagSnapshot> snapshots;
+
+    public TagService(
+            TagRepository tagRepository,
+            @Value("${realworld.tag.snapshot.refresh-after-write:1m}") Duration refreshAfterWrite) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(1)
+                .refreshAfterWrite(refreshAfterWrite)
+                .build(key -> TagSnapshot.of(tagRepository.findAllUsages()));
+    }
+
+    public TagSnapshot getTags() {
+        return snapshots.get(SNAPSHOT);
+    }
+
+    public void refresh() {
+        snapshots.refresh(SNAPSHOT);
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent event) {
+        if (event instanceof ArticleEvent.Created || event instanceof ArticleEvent.Deleted) {
+            this.refresh();
+        }
     }
 }
@@ -0,0 +1,116 @@
+package io.github.shirohoo.realworld.application.article.service;
+
+import io.github.shirohoo.realworld.domain.article.ArticleCursor;
+import io.github.shirohoo.realworld.domain.article.ArticleEvent;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.ArticleTimeline;
+import io.github.shirohoo.realworld.domain.article.AuthorPosition;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * Builds the feed on read by merging cached per-author timelines of the viewer's followings.
+ * Pages that reach past a cached timeline fall back to the `author IN (...)` query.
+ */
+@Component
+@ConditionalOnProperty(name = "realworld.article.feed.engine", havingValue = "timeline")
+public class TimelineFeedEngine implements FeedEngine {
+    private final UserRepository userRepository;
+    private final ArticleRepository articleRepository;
+    private final LoadingCache<UUID, ArticleTimeline> timelines;
+
+    public TimelineFeedEngine(
+            UserRepository userRepository,
+            ArticleRepository articleRepository,
+            @Value("${realworld.article.feed.timeline-size:100}") int timelineSize,
+            @Value("${realworld.article.feed.timeline-cache-size:100000}") long cacheSize) {
+        this.userRepository = userRepository;
+        this.articleRepository = articleRepository;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build(new TimelineLoader(timelineSize));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Integer> findIds(CurrentUser me, ArticleCursor cursor, Pageable pageable) {
+        List<UUID> authorIds = userRepository.findAllFollowingIds(me.id());
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+
+        return ArticleTimeline.merge(
+                        timelines.getAll(authorIds).values(), cursor, pageable.getOffset(), pageable.getPageSize())
+                .orElseGet(() -> articleRepository
+                        .findPositionsByAuthorIdIn(authorIds, cursor.createdAt(), cursor.id(), pageable)
+                        .stream()
+                        .map(ArticleCursor::id)
+                        .toList());
+    }
+
+    @TransactionalEventListener
+    public void on(ArticleEvent event) {
+        if (event instanceof ArticleEvent.Created created) {
+            timelines.invalidate(created.authorId());
+        } else if (event instanceof ArticleEvent.Deleted deleted) {
+            timelines.invalidate(deleted.authorId());
+        }
+    }
+
+    /**
+     * Loads the timelines of all authors missing from the cache together, so a cold feed costs two queries
+     * rather than one per followed author.
+     */
+    private class TimelineLoader implements CacheLoader<UUID, ArticleTimeline> {
+        private final int timelineSize;
+
+        TimelineLoader(int timelineSize) {
+            this.timelineSize = timelineSize;
+        }
+
+        @Override
+        public ArticleTimeline load(UUID authorId) {
+            return this.loadAll(Set.of(authorId)).get(authorId);
+        }
+
+        @Override
+        public Map<UUID, ArticleTimeline> loadAll(Set<? extends UUID> authorIds) {
+            // One position more than a timeline holds tells whether the author has older articles.
+            List<Integer> ids = articleRepository.findNewestIdsPerAuthorIdIn(Set.copyOf(authorIds), timelineSize + 1);
+            Map<UUID, List<ArticleCursor>> positions = new HashMap<>();
+            if (!ids.isEmpty()) {
+                for (AuthorPosition position : articleRepository.findAuthorPositionsByIdIn(ids)) {
+                    positions.computeIfAbsent(position.authorId(), it -> new ArrayList<>()).add(position.cursor());
+                }
+            }
+
+            Map<UUID, ArticleTimeline> timelines = new HashMap<>();
+            for (UUID authorId : authorIds) {
+                List<ArticleCursor> authored = positions.getOrDefault(authorId, new ArrayList<>());
+                authored.sort(ArticleCursor.NEWEST_FIRST);
+                boolean complete = authored.size() <= timelineSize;
+                List<ArticleCursor> kept = complete ? authored : authored.subList(0, timelineSize);
+                timelines.put(authorId, new ArticleTimeline(List.copyOf(kept), complete));
+            }
+            return timelines;
+        }
+    }
+}
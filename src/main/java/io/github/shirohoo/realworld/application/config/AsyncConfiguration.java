@@ -0,0 +1,49 @@
+package io.github.shirohoo.realworld.application.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@EnableAsync
+@Configuration
+public class AsyncConfiguration {
+    /**
+     * Runs feed fan-out. When the queue is full the publishing thread does the work itself, which slows writers down
+     * instead of dropping feed entries.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor feedFanOutExecutor(
+            @Value("${realworld.article.feed.fan-out-threads:2}") int threads,
+            @Value("${realworld.article.feed.fan-out-queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("feed-fan-out-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Runs password hashing, so a login storm occupies a fixed number of threads instead of every request worker.
+     * When the queue is full new work is rejected, and the request fails fast with 503.
+     * Without a configured size it gets one thread per processor, as hashing is pure CPU work.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${realworld.security.password.hashing-threads:0}") int threads,
+            @Value("${realworld.security.password.hashing-queue-capacity:100}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
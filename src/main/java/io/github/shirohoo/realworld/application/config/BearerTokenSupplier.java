@@ -3,6 +3,7 @@ package io.github.shirohoo.realworld.application.config;
 import io.github.shirohoo.realworld.domain.user.User;
 
 import java.time.Instant;
+import java.util.UUID;
 
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
@@ -17,19 +18,24 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class BearerTokenSupplier {
     private final JwtEncoder jwtEncoder;
+    private final JwtSigningKey jwtSigningKey;
 
     public String supply(User user) {
+        return this.supply(user.id());
+    }
+
+    public String supply(UUID userId) {
         Instant now = Instant.now();
         JwtClaimsSet claimsSet = JwtClaimsSet.builder()
                 .issuer("https://realworld.io")
                 .issuedAt(now)
                 .expiresAt(now.plusSeconds(300))
-                .subject(user.id().toString())
+                .subject(userId.toString())
                 .build();
 
-        JwtEncoderParameters parameters = JwtEncoderParameters.from(claimsSet);
+        JwtEncoderParameters parameters = JwtEncoderParameters.from(jwtSigningKey.header(), claimsSet);
         String token = jwtEncoder.encode(parameters).getTokenValue();
-        log.info("User id `{}` Bearer Token generated: `{}`", user.id(), token);
+        log.info("User id `{}` Bearer Token generated: `{}`", userId, token);
         return token;
     }
 }
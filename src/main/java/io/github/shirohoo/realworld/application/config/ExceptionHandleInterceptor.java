@@ -1,6 +1,7 @@
 package io.github.shirohoo.realworld.application.config;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
@@ -32,6 +33,13 @@ public class ExceptionHandleInterceptor extends ResponseEntityExceptionHandler {
         return ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN, e.getMessage());
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ProblemDetail handle(RejectedExecutionException e) {
+        log.warn("Rejected execution: `{}`", e.getMessage());
+        return ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE, "The server is busy. Please try again later.");
+    }
+
     @ExceptionHandler(Exception.class)
     public ProblemDetail handle(Exception e) {
         log.error("An unknown error occurred: `{}`. Please contact the administrator.", e.getMessage(), e);
@@ -0,0 +1,81 @@
+package io.github.shirohoo.realworld.application.config;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+
+/**
+ * The key new tokens are signed with, out of a set of keys that all verify.
+ * RSA keys sign with RS256, P-256 keys with ES256 and Ed25519 keys with EdDSA.
+ * To rotate, add the next key to the set, point `security.jwt.signing-key-id` at it,
+ * and drop the previous key once the tokens it signed have expired.
+ */
+public record JwtSigningKey(JwsAlgorithm algorithm, String keyId) {
+    public static JwtSigningKey select(JWKSet jwkSet, String keyId) {
+        List<JWK> keys = jwkSet.getKeys().stream().filter(JWK::isPrivate).toList();
+        if (keys.size() > 1 && keys.stream().anyMatch(it -> it.getKeyID() == null)) {
+            throw new IllegalStateException("Every signing key needs a `kid` when there is more than one.");
+        }
+
+        JWK key = keys.stream()
+                .filter(it -> keyId == null || keyId.equals(it.getKeyID()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No private key to sign with: `%s`.".formatted(keyId)));
+
+        String algorithm = algorithmOf(key).getName();
+        JwsAlgorithm jwsAlgorithm = SignatureAlgorithm.from(algorithm);
+        return new JwtSigningKey(jwsAlgorithm == null ? EdwardsCurveAlgorithm.EdDSA : jwsAlgorithm, key.getKeyID());
+    }
+
+    /**
+     * Returns the algorithms of every key in the set, which are the algorithms a token may be verified with.
+     */
+    public static Set<JWSAlgorithm> algorithmsOf(JWKSet jwkSet) {
+        return jwkSet.getKeys().stream().map(JwtSigningKey::algorithmOf).collect(Collectors.toSet());
+    }
+
+    private static JWSAlgorithm algorithmOf(JWK key) {
+        if (key.getAlgorithm() != null) {
+            return JWSAlgorithm.parse(key.getAlgorithm().getName());
+        }
+        if (key instanceof RSAKey) {
+            return JWSAlgorithm.RS256;
+        }
+        if (key instanceof ECKey ecKey && Curve.P_256.equals(ecKey.getCurve())) {
+            return JWSAlgorithm.ES256;
+        }
+        if (key instanceof OctetKeyPair octetKeyPair && Curve.Ed25519.equals(octetKeyPair.getCurve())) {
+            return JWSAlgorithm.EdDSA;
+        }
+        throw new IllegalStateException("Unsupported signing key: `%s`.".formatted(key.getKeyID()));
+    }
+
+    public JwsHeader header() {
+        JwsHeader.Builder header = JwsHeader.with(algorithm);
+        return keyId == null ? header.build() : header.keyId(keyId).build();
+    }
+
+    /**
+     * Spring Security has no constant for EdDSA yet; the encoder only passes the name on to Nimbus.
+     */
+    private enum EdwardsCurveAlgorithm implements JwsAlgorithm {
+        EdDSA;
+
+        @Override
+        public String getName() {
+            return this.name();
+        }
+    }
+}
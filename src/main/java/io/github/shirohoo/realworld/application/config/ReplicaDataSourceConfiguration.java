@@ -0,0 +1,59 @@
+package io.github.shirohoo.realworld.application.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Splits the application DataSource into a primary pool configured by `spring.datasource` and a replica pool
+ * configured by `realworld.datasource.replica` (Hikari properties such as `jdbc-url` and `maximum-pool-size`).
+ * Only active when `realworld.datasource.replica.jdbc-url` is set. Both pools publish the usual `hikaricp.*`
+ * metrics under their pool names, and routing decisions are counted in `realworld.datasource.routes`.
+ * The two pools are left out of the p6spy decoration, which wraps the routing DataSource once instead.
+ */
+@Configuration
+@ConditionalOnProperty(name = "realworld.datasource.replica.jdbc-url")
+public class ReplicaDataSourceConfiguration {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource =
+                properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("realworld.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${realworld.datasource.replica.stickiness:5s}") Duration stickiness,
+            MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, stickiness, meterRegistry));
+    }
+}
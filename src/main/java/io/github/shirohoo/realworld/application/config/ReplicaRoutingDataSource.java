@@ -0,0 +1,169 @@
+package io.github.shirohoo.realworld.application.config;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to everything else.
+ * A user who just committed a read-write transaction keeps reading from the primary for the `stickiness` window,
+ * so replication lag never hides their own writes from them.
+ * Connections taken while a read-write transaction completes, e.g. by transactional event listeners that open
+ * a transaction of their own, and connections taken inside {@link #onPrimary} come from the primary too, so what
+ * is read right after a write, or to refill a cache or an index it invalidated, does not lag behind it.
+ * Must sit behind a {@link LazyConnectionDataSourceProxy}, so the target is only picked once the read-only flag
+ * of the transaction is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final ThreadLocal<Integer> PRIMARY_SCOPES = ThreadLocal.withInitial(() -> 0);
+
+    private final Cache<String, Boolean> recentWriters;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaRoutingDataSource(
+            DataSource primary, DataSource replica, Duration stickiness, MeterRegistry meterRegistry) {
+        this.recentWriters = Caffeine.newBuilder().expireAfterWrite(stickiness).build();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("realworld.datasource.sticky.users", recentWriters, Cache::estimatedSize)
+                .description("Users whose reads are pinned to the primary after a write")
+                .register(meterRegistry);
+
+        this.setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        this.setDefaultTargetDataSource(primary);
+        this.afterPropertiesSet();
+    }
+
+    /**
+     * Runs `action` with every connection it takes from the primary, whatever the read-only flag of its transaction.
+     * A transaction that already holds a connection when `action` starts keeps it.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        enterPrimaryScope();
+        try {
+            return action.get();
+        } finally {
+            exitPrimaryScope();
+        }
+    }
+
+    public static void onPrimary(Runnable action) {
+        onPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new Completion(user));
+            }
+            return this.route(Target.PRIMARY, "write");
+        }
+
+        if (PRIMARY_SCOPES.get() > 0) {
+            return this.route(Target.PRIMARY, "scope");
+        }
+
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            return this.route(Target.PRIMARY, "sticky");
+        }
+        return this.route(Target.REPLICA, "read");
+    }
+
+    private Target route(Target target, String reason) {
+        String name = target.name().toLowerCase(Locale.ROOT);
+        meterRegistry.counter("realworld.datasource.routes", "target", name, "reason", reason).increment();
+        return target;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static void enterPrimaryScope() {
+        PRIMARY_SCOPES.set(PRIMARY_SCOPES.get() + 1);
+    }
+
+    private static void exitPrimaryScope() {
+        int scopes = PRIMARY_SCOPES.get() - 1;
+        if (scopes == 0) {
+            PRIMARY_SCOPES.remove();
+        } else {
+            PRIMARY_SCOPES.set(scopes);
+        }
+    }
+
+    /**
+     * Marks the writer before the commit, so no after-commit callback reads ahead of the mark, and keeps the thread
+     * on the primary from the start of the completion to its end. Ordered last, so the scope outlives the
+     * after-completion callbacks of transactional event listeners, which default to order 0.
+     */
+    private class Completion implements TransactionSynchronization {
+        private final String user;
+        private boolean inScope;
+
+        private Completion(String user) {
+            this.user = user;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (user != null) {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        }
+
+        @Override
+        public void beforeCompletion() {
+            if (!inScope) {
+                enterPrimaryScope();
+                inScope = true;
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (inScope) {
+                exitPrimaryScope();
+                inScope = false;
+            }
+        }
+    }
+
+    private enum Target {
+        PRIMARY,
+        REPLICA
+    }
+}
@@ -2,13 +2,18 @@ package io.github.shirohoo.realworld.application.config;
 
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.time.Duration;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -29,12 +34,15 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 
 @Configuration
 @EnableMethodSecurity
@@ -47,7 +55,8 @@ public class SecurityConfiguration {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .cors(SecurityConfigurerAdapter::and)
                 .authorizeHttpRequests(
-                        requests -> requests.requestMatchers(HttpMethod.POST, "/api/users", "/api/users/login")
+                        requests -> requests.requestMatchers(
+                                        HttpMethod.POST, "/api/users", "/api/users/login", "/api/users/token/refresh")
                                 .permitAll()
                                 .requestMatchers(
                                         HttpMethod.GET,
@@ -55,7 +64,8 @@ public class SecurityConfiguration {
                                         "/api/articles/{slug}",
                                         "/api/articles",
                                         "/api/profiles/{username}",
-                                        "/api/tags")
+                                        "/api/tags",
+                                        "/api/users/availability")
                                 .permitAll()
                                 .anyRequest()
                                 .authenticated())
@@ -80,22 +90,66 @@ public class SecurityConfiguration {
         return source;
     }
 
+    /**
+     * BCrypt at the configured cost; hashes of a lower cost are upgraded on the next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${realworld.security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
+    /**
+     * The signing and verification keys: the JWK set at `security.jwt.keys` when it is set,
+     * otherwise the RSA key pair at `security.key`, identified by its thumbprint.
+     */
     @Bean
-    public JwtDecoder jwtDecoder(@Value("${security.key.public}") RSAPublicKey rsaPublicKey) {
-        return NimbusJwtDecoder.withPublicKey(rsaPublicKey).build();
+    public JWKSet jwkSet(
+            @Value("${security.jwt.keys:#{null}}") Resource keys,
+            @Value("${security.key.public:#{null}}") RSAPublicKey rsaPublicKey,
+            @Value("${security.key.private:#{null}}") RSAPrivateKey rsaPrivateKey)
+            throws IOException, ParseException, JOSEException {
+        if (keys != null) {
+            try (InputStream inputStream = keys.getInputStream()) {
+                return JWKSet.load(inputStream);
+            }
+        }
+
+        JWK jwk = new RSAKey.Builder(rsaPublicKey)
+                .privateKey(rsaPrivateKey)
+                .keyIDFromThumbprint()
+                .build();
+        return new JWKSet(jwk);
+    }
+
+    @Bean
+    public JwtSigningKey jwtSigningKey(JWKSet jwkSet, @Value("${security.jwt.signing-key-id:#{null}}") String keyId) {
+        return JwtSigningKey.select(jwkSet, keyId);
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(
+            JWKSet jwkSet,
+            @Value("${realworld.security.jwt-cache.maximum-size:10000}") long maximumSize,
+            @Value("${realworld.security.jwt-cache.maximum-lifetime:10m}") Duration maximumLifetime) {
+        return new CachingJwtDecoder(verifier(jwkSet), maximumSize, maximumLifetime);
+    }
+
+    /**
+     * Verifies tokens against the public half of every key in the set, picked by the `kid` of the token;
+     * tokens issued before keys had ids are tried against every key of their algorithm.
+     */
+    static NimbusJwtDecoder verifier(JWKSet jwkSet) {
+        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(jwkSet.toPublicJWKSet());
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JwtSigningKey.algorithmsOf(jwkSet), jwks));
+        // Claims are validated by the decoder, as with the decoders Spring Security builds itself.
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {});
+        return new NimbusJwtDecoder(jwtProcessor);
     }
 
     @Bean
-    public JwtEncoder jwtEncoder(
-            @Value("${security.key.public}") RSAPublicKey rsaPublicKey,
-            @Value("${security.key.private}") RSAPrivateKey rsaPrivateKey) {
-        JWK jwk = new RSAKey.Builder(rsaPublicKey).privateKey(rsaPrivateKey).build();
-        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
+    public JwtEncoder jwtEncoder(JWKSet jwkSet) {
+        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(jwkSet);
         return new NimbusJwtEncoder(jwks);
     }
 }
@@ -1,31 +1,28 @@
 package io.github.shirohoo.realworld.application.config;
 
-import io.github.shirohoo.realworld.domain.user.User;
-import io.github.shirohoo.realworld.domain.user.UserRepository;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
 
 import java.util.UUID;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
-import lombok.RequiredArgsConstructor;
-
-@RequiredArgsConstructor
+/**
+ * Resolves the caller from the claims of the already verified bearer token, without looking the user up.
+ */
 public class UserArgumentResolver implements HandlerMethodArgumentResolver {
-    private final UserRepository userRepository;
-
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        return parameter.getParameterType() == User.class;
+        return parameter.getParameterType() == CurrentUser.class;
     }
 
     @Override
@@ -43,11 +40,8 @@ public class UserArgumentResolver implements HandlerMethodArgumentResolver {
 
         JwtAuthenticationToken jwt = (JwtAuthenticationToken) authentication;
         String userId = jwt.getName();
-        String token = jwt.getToken().getTokenValue();
+        Jwt token = jwt.getToken();
 
-        return userRepository
-                .findById(UUID.fromString(userId))
-                .map(it -> it.token(token))
-                .orElseThrow(() -> new BadCredentialsException("Invalid token"));
+        return new CurrentUser.Claims(UUID.fromString(userId), token.getTokenValue());
     }
 }
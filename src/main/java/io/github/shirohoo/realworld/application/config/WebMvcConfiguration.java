@@ -1,22 +1,15 @@
 package io.github.shirohoo.realworld.application.config;
 
-import io.github.shirohoo.realworld.domain.user.UserRepository;
-
 import java.util.List;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import lombok.RequiredArgsConstructor;
-
 @Configuration
-@RequiredArgsConstructor
 public class WebMvcConfiguration implements WebMvcConfigurer {
-    private final UserRepository userRepository;
-
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.add(new UserArgumentResolver(userRepository));
+        resolvers.add(new UserArgumentResolver());
     }
 }
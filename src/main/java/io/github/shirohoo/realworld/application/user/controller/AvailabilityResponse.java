@@ -0,0 +1,5 @@
+package io.github.shirohoo.realworld.application.user.controller;
+
+import io.github.shirohoo.realworld.domain.user.AvailabilityVO;
+
+public record AvailabilityResponse(AvailabilityVO availability) {}
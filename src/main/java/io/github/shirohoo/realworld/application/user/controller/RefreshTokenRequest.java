@@ -0,0 +1,6 @@
+package io.github.shirohoo.realworld.application.user.controller;
+
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+@JsonRootName("user")
+public record RefreshTokenRequest(String refreshToken) {}
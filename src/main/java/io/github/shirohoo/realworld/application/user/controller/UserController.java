@@ -2,8 +2,10 @@ package io.github.shirohoo.realworld.application.user.controller;
 
 import static org.springframework.http.HttpStatus.CREATED;
 
+import io.github.shirohoo.realworld.application.user.service.AvailabilityService;
 import io.github.shirohoo.realworld.application.user.service.UserService;
-import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.AvailabilityVO;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
 import io.github.shirohoo.realworld.domain.user.UserVO;
 
 import java.util.Map;
@@ -21,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserController {
     private final UserService userService;
+    private final AvailabilityService availabilityService;
 
     @PostMapping("/api/users")
     public ModelAndView signUp(@RequestBody SignUpUserRequest request, HttpServletRequest httpServletRequest) {
@@ -39,14 +42,29 @@ public class UserController {
         return new UserResponse(userVO);
     }
 
+    @PostMapping("/api/users/token/refresh")
+    public UserResponse refresh(@RequestBody RefreshTokenRequest request) {
+        UserVO userVO = userService.refresh(request.refreshToken());
+        return new UserResponse(userVO);
+    }
+
+    @GetMapping("/api/users/availability")
+    public AvailabilityResponse checkAvailability(
+            @RequestParam(value = "username", required = false) String username,
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "slug", required = false) String slug) {
+        AvailabilityVO availability = availabilityService.check(username, email, slug);
+        return new AvailabilityResponse(availability);
+    }
+
     @GetMapping("/api/user")
-    public UserResponse getCurrentUser(User me) {
-        UserVO userVO = new UserVO(me);
+    public UserResponse getCurrentUser(CurrentUser me) {
+        UserVO userVO = userService.getCurrentUser(me);
         return new UserResponse(userVO);
     }
 
     @PutMapping("/api/user")
-    public UserResponse updateCurrentUser(User me, @RequestBody UpdateUserRequest request) {
+    public UserResponse updateCurrentUser(CurrentUser me, @RequestBody UpdateUserRequest request) {
         UserVO userVO = userService.update(me, request);
         return new UserResponse(userVO);
     }
@@ -0,0 +1,193 @@
+package io.github.shirohoo.realworld.application.user.service;
+
+import io.github.shirohoo.realworld.application.config.ReplicaRoutingDataSource;
+import io.github.shirohoo.realworld.domain.article.ArticleEvent;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.user.AvailabilityVO;
+import io.github.shirohoo.realworld.domain.user.BloomFilter;
+import io.github.shirohoo.realworld.domain.user.UserEvent;
+import io.github.shirohoo.realworld.domain.user.UserIdentifiers;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers whether usernames, emails and article slugs are free. A miss in the Bloom filter of taken names
+ * is answered as free without a query; only possible hits are checked against the database.
+ * Names are added to the filter as they are written, before the write commits, so a rolled back write only
+ * costs a false positive. Renamed names stay in the filter until the next rebuild.
+ * Each node keeps its own filter and only learns of the writes it makes, so a name taken through another node reads
+ * as free there until the next rebuild. The answer is a hint for forms; sign up and profile updates still check
+ * uniqueness against the database.
+ */
+@Slf4j
+@Service
+public class AvailabilityService {
+    private final UserRepository userRepository;
+    private final ArticleRepository articleRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Duration writeWindow;
+    private final Queue<Written> recent = new ConcurrentLinkedQueue<>();
+
+    private volatile BloomFilter taken;
+    private volatile BloomFilter rebuilding;
+
+    public AvailabilityService(
+            UserRepository userRepository,
+            ArticleRepository articleRepository,
+            @Value("${realworld.user.availability.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${realworld.user.availability.false-positive-probability:0.01}") double falsePositiveProbability,
+            @Value("${realworld.user.availability.write-window:1m}") Duration writeWindow) {
+        this.userRepository = userRepository;
+        this.articleRepository = articleRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.writeWindow = writeWindow;
+    }
+
+    /**
+     * Builds a new filter and swaps it in. Names written while it runs go to both filters, and names written within
+     * `write-window` before it started are put again, as their writes may commit after the build read past them.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${realworld.user.availability.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        // Read from the primary as a whole: a connection is picked by the first statement of the transaction.
+        ReplicaRoutingDataSource.onPrimary(this::build);
+    }
+
+    private void build() {
+        // Sized with headroom over what is stored now, so growth between rebuilds keeps the error rate.
+        long stored = userRepository.count() * 2 + articleRepository.count();
+        BloomFilter filter = new BloomFilter(Math.max(expectedInsertions, stored * 2), falsePositiveProbability);
+        long startedAt = System.nanoTime();
+        rebuilding = filter;
+        try (Stream<UserIdentifiers> users = userRepository.streamAllIdentifiers();
+                Stream<String> slugs = articleRepository.streamAllSlugs()) {
+            users.forEach(user -> {
+                filter.put(usernameKey(user.username()));
+                filter.put(emailKey(user.email()));
+            });
+            slugs.forEach(slug -> filter.put(slugKey(slug)));
+
+            long since = startedAt - writeWindow.toNanos();
+            for (Written written : recent) {
+                if (written.at() - since >= 0) {
+                    filter.put(written.key());
+                }
+            }
+
+            // Swapped in before `rebuilding` is cleared, so no name written meanwhile misses the new filter.
+            taken = filter;
+        } finally {
+            rebuilding = null;
+        }
+
+        log.info("Built the name availability filter of `{}` bits for `{}` stored names.", filter.bitCount(), stored);
+    }
+
+    @Transactional(readOnly = true)
+    public AvailabilityVO check(String username, String email, String slug) {
+        boolean usernameMayBeTaken = username != null && this.mightBeTaken(usernameKey(username));
+        boolean emailMayBeTaken = email != null && this.mightBeTaken(emailKey(email));
+
+        Boolean usernameFree = username == null ? null : !usernameMayBeTaken;
+        Boolean emailFree = email == null ? null : !emailMayBeTaken;
+        if (usernameMayBeTaken && emailMayBeTaken) {
+            List<UserIdentifiers> holders = userRepository.findTakenIdentifiers(username, email, null);
+            usernameFree = holders.stream().noneMatch(it -> username.equalsIgnoreCase(it.username()));
+            emailFree = holders.stream().noneMatch(it -> email.equalsIgnoreCase(it.email()));
+        } else if (usernameMayBeTaken) {
+            usernameFree = !userRepository.existsByUsername(username);
+        } else if (emailMayBeTaken) {
+            emailFree = !userRepository.existsByEmail(email);
+        }
+
+        Boolean slugFree = null;
+        if (slug != null) {
+            slugFree = !this.mightBeTaken(slugKey(slug)) || !articleRepository.existsBySlug(slug);
+        }
+        return new AvailabilityVO(usernameFree, emailFree, slugFree);
+    }
+
+    @EventListener
+    public void on(UserEvent event) {
+        if (event instanceof UserEvent.SignedUp signedUp) {
+            this.put(usernameKey(signedUp.username()));
+            this.put(emailKey(signedUp.email()));
+        } else if (event instanceof UserEvent.Updated updated) {
+            this.put(usernameKey(updated.username()));
+            this.put(emailKey(updated.email()));
+        }
+    }
+
+    @EventListener
+    public void on(ArticleEvent event) {
+        if (event instanceof ArticleEvent.Created || event instanceof ArticleEvent.Updated) {
+            this.put(slugKey(event.slug()));
+        }
+    }
+
+    /**
+     * Until the first build completes every name may be taken, so the database decides.
+     */
+    private boolean mightBeTaken(String key) {
+        BloomFilter filter = taken;
+        return filter == null || filter.mightContain(key);
+    }
+
+    private void put(String key) {
+        long now = System.nanoTime();
+        recent.add(new Written(key, now));
+        long expired = now - writeWindow.toNanos();
+        for (Written oldest = recent.peek(); oldest != null && oldest.at() - expired < 0; oldest = recent.peek()) {
+            recent.remove(oldest);
+        }
+
+        // Read in the reverse order of the swap, which sets `taken` before it clears `rebuilding`: when no rebuild
+        // is seen, either the key was logged before one started and is replayed, or `taken` is already the new one.
+        BloomFilter next = rebuilding;
+        BloomFilter filter = taken;
+        if (next != null) {
+            next.put(key);
+        }
+
+        if (filter != null) {
+            filter.put(key);
+        }
+    }
+
+    /**
+     * A name put at `at`, in {@link System#nanoTime()}; kept for `write-window` so a rebuild can put it again.
+     */
+    private record Written(String key, long at) {}
+
+    // Keys are lower-cased, as the database may compare names without regard to case.
+    private static String usernameKey(String username) {
+        return "username:" + username.toLowerCase(Locale.ROOT);
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email.toLowerCase(Locale.ROOT);
+    }
+
+    private static String slugKey(String slug) {
+        return "slug:" + slug.toLowerCase(Locale.ROOT);
+    }
+}
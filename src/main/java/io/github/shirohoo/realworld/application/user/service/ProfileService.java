@@ -1,11 +1,16 @@
 package io.github.shirohoo.realworld.application.user.service;
 
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
 import io.github.shirohoo.realworld.domain.user.ProfileVO;
 import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserEvent;
 import io.github.shirohoo.realworld.domain.user.UserRepository;
+import io.github.shirohoo.realworld.domain.user.ViewerContext;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,43 +20,50 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProfileService {
     private final UserRepository userRepository;
+    private final ViewerContextService viewerContextService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
-    public ProfileVO getProfile(User me, String target) {
+    public ProfileVO getProfile(CurrentUser me, String target) {
         return userRepository
                 .findByUsername(target)
-                .map(it -> User.retrievesProfile(me, it))
+                .map(it -> this.getProfile(me, it))
                 .orElseThrow(() -> new NoSuchElementException("User(`%s`) not found".formatted(target)));
     }
 
     @Transactional(readOnly = true)
-    public ProfileVO getProfile(User me, User target) {
-        return User.retrievesProfile(me, target);
+    public ProfileVO getProfile(CurrentUser me, User target) {
+        ViewerContext viewer = viewerContextService.forUsers(me, List.of(target));
+        return new ProfileVO(viewer, target);
     }
 
     @Transactional
-    public ProfileVO follow(User me, String target) {
+    public ProfileVO follow(CurrentUser me, String target) {
         return userRepository
                 .findByUsername(target)
-                .map(me::follow)
+                .map(it -> this.follow(me, it))
                 .orElseThrow(() -> new NoSuchElementException("User(`%s`) not found".formatted(target)));
     }
 
     @Transactional
-    public ProfileVO follow(User me, User target) {
-        return me.follow(target);
+    public ProfileVO follow(CurrentUser me, User target) {
+        ProfileVO profile = userRepository.getReferenceById(me.id()).follow(target);
+        eventPublisher.publishEvent(new UserEvent.Followed(me.id(), target.id()));
+        return profile;
     }
 
     @Transactional
-    public ProfileVO unfollow(User me, String target) {
+    public ProfileVO unfollow(CurrentUser me, String target) {
         return userRepository
                 .findByUsername(target)
-                .map(me::unfollow)
+                .map(it -> this.unfollow(me, it))
                 .orElseThrow(() -> new NoSuchElementException("User(`%s`) not found".formatted(target)));
     }
 
     @Transactional
-    public ProfileVO unfollow(User me, User target) {
-        return me.unfollow(target);
+    public ProfileVO unfollow(CurrentUser me, User target) {
+        ProfileVO profile = userRepository.getReferenceById(me.id()).unfollow(target);
+        eventPublisher.publishEvent(new UserEvent.Unfollowed(me.id(), target.id()));
+        return profile;
     }
 }
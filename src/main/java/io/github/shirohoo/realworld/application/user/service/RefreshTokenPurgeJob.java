@@ -0,0 +1,31 @@
+package io.github.shirohoo.realworld.application.user.service;
+
+import io.github.shirohoo.realworld.domain.user.RefreshTokenRepository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes refresh tokens past their expiry; used and revoked ones are kept until then to catch reuse.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Transactional
+    @Scheduled(cron = "${realworld.security.refresh-token.purge-cron:0 0 5 * * *}")
+    public void purge() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged `{}` expired refresh tokens.", purged);
+        }
+    }
+}
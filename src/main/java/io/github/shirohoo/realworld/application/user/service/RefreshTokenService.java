@@ -0,0 +1,101 @@
+package io.github.shirohoo.realworld.application.user.service;
+
+import io.github.shirohoo.realworld.domain.user.RefreshToken;
+import io.github.shirohoo.realworld.domain.user.RefreshTokenRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues and rotates refresh tokens. Tokens are 256 random bits, so a plain SHA-256 is enough to store them:
+ * a refresh is one indexed lookup and no password hashing.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration lifetime;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${realworld.security.refresh-token.lifetime:14d}") Duration lifetime) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.lifetime = lifetime;
+    }
+
+    /**
+     * Starts a new family for a login and returns its first token; only its hash is kept.
+     */
+    @Transactional
+    public String issue(UUID userId) {
+        return this.issue(userId, UUID.randomUUID());
+    }
+
+    /**
+     * Trades a token for the next one of its family. A token that was already traded in revokes its family,
+     * and that revocation commits even though the request fails.
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public Rotation rotate(String token) {
+        RefreshToken current = refreshTokenRepository
+                .findByTokenHash(hash(token))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token."));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.isExpired(now)) {
+            throw new IllegalArgumentException("Invalid refresh token.");
+        }
+
+        if (refreshTokenRepository.markUsed(current.id(), now) == 0) {
+            if (!current.revoked()) {
+                log.warn("Refresh token of user `{}` reused, revoking its family.", current.userId());
+                refreshTokenRepository.revokeFamily(current.familyId());
+            }
+            throw new IllegalArgumentException("Invalid refresh token.");
+        }
+        return new Rotation(current.userId(), this.issue(current.userId(), current.familyId()));
+    }
+
+    @Transactional
+    public void revokeAll(UUID userId) {
+        refreshTokenRepository.revokeAll(userId);
+    }
+
+    private String issue(UUID userId, UUID familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .userId(userId)
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(lifetime))
+                .build());
+        return token;
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Rotation(UUID userId, String refreshToken) {}
+}
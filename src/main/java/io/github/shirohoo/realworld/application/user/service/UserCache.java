@@ -0,0 +1,52 @@
+package io.github.shirohoo.realworld.application.user.service;
+
+import io.github.shirohoo.realworld.domain.user.UserEvent;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+import io.github.shirohoo.realworld.domain.user.UserVO;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Short-lived per-node copy of user rows by id, so reading the current user does not query on every request.
+ * An entry is dropped once an update of its user commits here; other nodes pick the change up when theirs expires.
+ */
+@Component
+public class UserCache {
+    private final UserRepository userRepository;
+    private final Cache<UUID, UserVO> users;
+
+    public UserCache(
+            UserRepository userRepository,
+            @Value("${realworld.user.cache.maximum-size:10000}") long maximumSize,
+            @Value("${realworld.user.cache.expire-after-write:5s}") Duration expireAfterWrite) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    /**
+     * Returns the user without a token; missing users are not cached.
+     */
+    public Optional<UserVO> get(UUID id) {
+        return Optional.ofNullable(users.get(
+                id, key -> userRepository.findById(key).map(UserVO::new).orElse(null)));
+    }
+
+    @TransactionalEventListener
+    public void on(UserEvent event) {
+        if (event instanceof UserEvent.Updated updated) {
+            users.invalidate(updated.userId());
+        }
+    }
+}
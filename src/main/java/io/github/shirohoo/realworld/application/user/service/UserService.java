@@ -1,90 +1,149 @@
 package io.github.shirohoo.realworld.application.user.service;
 
 import io.github.shirohoo.realworld.application.config.BearerTokenSupplier;
+import io.github.shirohoo.realworld.application.config.ReplicaRoutingDataSource;
 import io.github.shirohoo.realworld.application.user.controller.LoginUserRequest;
 import io.github.shirohoo.realworld.application.user.controller.SignUpUserRequest;
 import io.github.shirohoo.realworld.application.user.controller.UpdateUserRequest;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
 import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserEvent;
+import io.github.shirohoo.realworld.domain.user.UserIdentifiers;
 import io.github.shirohoo.realworld.domain.user.UserRepository;
 import io.github.shirohoo.realworld.domain.user.UserVO;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Passwords are hashed and checked before a transaction starts, so requests waiting for the bounded hashing executor
+ * hold no database connection; the writes that follow run in their own short transaction.
+ */
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final BearerTokenSupplier bearerTokenSupplier;
+    private final UserCache userCache;
+    private final RefreshTokenService refreshTokenService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     public User signUp(SignUpUserRequest request) {
-        this.validateUsernameAndEmail(request);
         User newUser = request.toUser();
-        newUser.password(passwordEncoder.encode(request.password()));
-        return userRepository.save(newUser);
+        newUser.password(passwordHasher.encode(request.password()));
+        return transactionTemplate.execute(status -> {
+            this.validateUnique(request.username(), request.email(), null);
+            User savedUser = userRepository.save(newUser);
+            eventPublisher.publishEvent(
+                    new UserEvent.SignedUp(savedUser.id(), savedUser.username(), savedUser.email()));
+            return savedUser;
+        });
     }
 
-    private void validateUsernameAndEmail(SignUpUserRequest request) {
-        String username = request.username();
-        if (userRepository.existsByUsername(username)) {
-            throw new IllegalArgumentException("Username(`%s`) already exists.".formatted(username));
+    /**
+     * Checks both names with one query; users other than `exceptId` must hold neither.
+     */
+    private void validateUnique(String username, String email, UUID exceptId) {
+        if (username == null && email == null) {
+            return;
         }
 
-        String email = request.email();
-        if (userRepository.existsByEmail(email)) {
+        List<UserIdentifiers> holders = userRepository.findTakenIdentifiers(username, email, exceptId);
+        if (username != null && holders.stream().anyMatch(it -> username.equalsIgnoreCase(it.username()))) {
+            throw new IllegalArgumentException("Username(`%s`) already exists.".formatted(username));
+        }
+        if (email != null && holders.stream().anyMatch(it -> email.equalsIgnoreCase(it.email()))) {
             throw new IllegalArgumentException("Email(`%s`) already exists.".formatted(email));
         }
     }
 
-    @Transactional(readOnly = true)
     public UserVO login(LoginUserRequest request) {
-        return userRepository
-                .findByEmail(request.email())
-                .filter(user -> passwordEncoder.matches(request.password(), user.password()))
-                .map(user -> {
-                    String token = bearerTokenSupplier.supply(user);
-                    return new UserVO(user.token(token));
-                })
+        // The primary has the password of a user who signed up or changed it a moment ago.
+        User user = ReplicaRoutingDataSource.onPrimary(() -> userRepository.findByEmail(request.email()))
+                .filter(it -> passwordHasher.matches(request.password(), it.password()))
                 .orElseThrow(() -> new IllegalArgumentException("Invalid email or password."));
+
+        // Hashes made with a lower cost than the configured one are upgraded while the password is at hand.
+        String upgraded =
+                passwordHasher.upgradeEncoding(user.password()) ? passwordHasher.encode(request.password()) : null;
+
+        String refreshToken = transactionTemplate.execute(status -> {
+            if (upgraded != null) {
+                userRepository.getReferenceById(user.id()).password(upgraded);
+            }
+            return refreshTokenService.issue(user.id());
+        });
+        String token = bearerTokenSupplier.supply(user);
+        return new UserVO(user.token(token)).withRefreshToken(refreshToken);
+    }
+
+    /**
+     * Trades a refresh token for a new access token and the next refresh token, without checking the password.
+     */
+    public UserVO refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        UserVO user = userCache
+                .get(rotation.userId())
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token."));
+
+        String token = bearerTokenSupplier.supply(rotation.userId());
+        return user.withToken(token).withRefreshToken(rotation.refreshToken());
     }
 
-    @Transactional
-    public UserVO update(User user, UpdateUserRequest request) {
-        this.updateEmail(user, request);
-        this.updatePassword(user, request);
-        this.updateUsername(user, request);
-        this.updateUserDetails(user, request);
-        return new UserVO(user);
+    /**
+     * Reads the caller from the user cache, so it may lag behind an update made on another node for a few seconds.
+     */
+    public UserVO getCurrentUser(CurrentUser me) {
+        return userCache
+                .get(me.id())
+                .map(it -> it.withToken(me.token()))
+                .orElseThrow(() -> new BadCredentialsException("Invalid token"));
+    }
+
+    public UserVO update(CurrentUser me, UpdateUserRequest request) {
+        String password = nonBlank(request.password());
+        String encodedPassword = password == null ? null : passwordHasher.encode(password);
+        return transactionTemplate.execute(status -> {
+            this.validateUnique(nonBlank(request.username()), nonBlank(request.email()), me.id());
+            User user = userRepository.getReferenceById(me.id());
+            this.updateEmail(user, request);
+            this.updatePassword(user, encodedPassword);
+            this.updateUsername(user, request);
+            this.updateUserDetails(user, request);
+
+            // The token only carries the id, so it stays valid whatever changed.
+            user.token(me.token());
+            eventPublisher.publishEvent(new UserEvent.Updated(user.id(), user.username(), user.email()));
+            return new UserVO(user);
+        });
     }
 
     private void updateEmail(User user, UpdateUserRequest request) {
         String email = request.email();
-        if (email != null && !email.equals(user.email()) && userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Email(`%s`) already exists.".formatted(email));
-        }
         if (email != null && !email.isBlank()) {
             user.email(email);
         }
     }
 
-    private void updatePassword(User user, UpdateUserRequest request) {
-        String password = request.password();
-        if (password != null && !password.isBlank()) {
-            String encoded = passwordEncoder.encode(password);
-            user.password(encoded);
+    private void updatePassword(User user, String encodedPassword) {
+        if (encodedPassword != null) {
+            user.password(encodedPassword);
+            // Sessions started with the old password must not outlive it.
+            refreshTokenService.revokeAll(user.id());
         }
     }
 
     private void updateUsername(User user, UpdateUserRequest request) {
         String username = request.username();
-        if (username != null && !username.equals(user.username()) && userRepository.existsByUsername(username)) {
-            throw new IllegalArgumentException("Username(`%s`) already exists.".formatted(username));
-        }
         if (username != null && !username.isBlank()) {
             user.username(username);
         }
@@ -94,4 +153,8 @@ public class UserService {
         user.bio(request.bio());
         user.image(request.image());
     }
+
+    private static String nonBlank(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 }
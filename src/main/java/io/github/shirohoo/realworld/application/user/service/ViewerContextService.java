@@ -0,0 +1,91 @@
+package io.github.shirohoo.realworld.application.user.service;
+
+import static java.util.stream.Collectors.toSet;
+
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.ArticleSnapshot;
+import io.github.shirohoo.realworld.domain.article.Comment;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+import io.github.shirohoo.realworld.domain.user.ViewerContext;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves the favorited and following flags of a whole response with at most two IN queries,
+ * instead of walking the viewer's collections once per row.
+ */
+@Service
+@RequiredArgsConstructor
+public class ViewerContextService {
+    private final UserRepository userRepository;
+    private final ArticleRepository articleRepository;
+
+    @Transactional(readOnly = true)
+    public ViewerContext forArticles(CurrentUser me, Collection<Article> articles) {
+        if (me == null || articles.isEmpty()) {
+            return ViewerContext.anonymous();
+        }
+
+        Set<Integer> articleIds = articles.stream().map(Article::id).collect(toSet());
+        Set<UUID> authorIds = articles.stream().map(it -> it.author().id()).collect(toSet());
+        return this.forArticles(me, articleIds, authorIds);
+    }
+
+    @Transactional(readOnly = true)
+    public ViewerContext forSnapshots(CurrentUser me, Collection<ArticleSnapshot> snapshots) {
+        if (me == null || snapshots.isEmpty()) {
+            return ViewerContext.anonymous();
+        }
+
+        Set<Integer> articleIds = snapshots.stream().map(ArticleSnapshot::id).collect(toSet());
+        Set<UUID> authorIds = snapshots.stream().map(ArticleSnapshot::authorId).collect(toSet());
+        return this.forArticles(me, articleIds, authorIds);
+    }
+
+    @Transactional(readOnly = true)
+    public ViewerContext forArticle(CurrentUser me, Integer articleId, UUID authorId) {
+        if (me == null) {
+            return ViewerContext.anonymous();
+        }
+
+        return this.forArticles(me, Set.of(articleId), Set.of(authorId));
+    }
+
+    private ViewerContext forArticles(CurrentUser me, Set<Integer> articleIds, Set<UUID> authorIds) {
+        return new ViewerContext(
+                me.id(),
+                articleRepository.findFavoritedIds(me.id(), articleIds),
+                userRepository.findFollowingIds(me.id(), authorIds));
+    }
+
+    @Transactional(readOnly = true)
+    public ViewerContext forComments(CurrentUser me, Collection<Comment> comments) {
+        if (me == null || comments.isEmpty()) {
+            return ViewerContext.anonymous();
+        }
+
+        Set<UUID> authorIds = comments.stream().map(it -> it.author().id()).collect(toSet());
+        return new ViewerContext(me.id(), Collections.emptySet(), userRepository.findFollowingIds(me.id(), authorIds));
+    }
+
+    @Transactional(readOnly = true)
+    public ViewerContext forUsers(CurrentUser me, Collection<User> users) {
+        if (me == null || users.isEmpty()) {
+            return ViewerContext.anonymous();
+        }
+
+        Set<UUID> userIds = users.stream().map(User::id).collect(toSet());
+        return new ViewerContext(me.id(), Collections.emptySet(), userRepository.findFollowingIds(me.id(), userIds));
+    }
+}
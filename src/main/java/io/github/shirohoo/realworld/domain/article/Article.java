@@ -21,9 +21,11 @@ import lombok.experimental.Accessors;
 @Accessors(fluent = true, chain = true)
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "IDX_article_created_at_id", columnList = "created_at, id"))
 public class Article {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)
     private Integer id;
 
     @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
@@ -46,6 +48,19 @@ public class Article {
             inverseJoinColumns = @JoinColumn(name = "user_id"))
     private Set<User> favorites = new HashSet<>();
 
+    /**
+     * Denormalized size of {@link #favorites}. The column is only changed by atomic SQL increments in the
+     * repository, so the value held here just mirrors them for the current persistence context.
+     */
+    @Column(name = "favorites_count", nullable = false, updatable = false)
+    private int favoritesCount;
+
+    /**
+     * Denormalized number of comments, maintained the same way as {@link #favoritesCount}.
+     */
+    @Column(name = "comments_count", nullable = false, updatable = false)
+    private int commentsCount;
+
     @ManyToMany(cascade = CascadeType.ALL)
     @JoinTable(
             name = "article_tags",
@@ -77,6 +92,7 @@ public class Article {
         this.description = description;
         this.content = content;
         this.favorites = favorites == null ? new HashSet<>() : favorites;
+        this.favoritesCount = this.favorites.size();
         this.tags = tags == null ? new HashSet<>() : tags;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -125,6 +141,7 @@ public class Article {
         }
 
         this.favorites.add(user);
+        this.increaseFavoritesCount();
         user.favorite(this);
 
         return this;
@@ -136,11 +153,36 @@ public class Article {
         }
 
         this.favorites.remove(user);
+        this.decreaseFavoritesCount();
         user.unfavorite(this);
 
         return this;
     }
 
+    public Article increaseFavoritesCount() {
+        this.favoritesCount++;
+        return this;
+    }
+
+    public Article decreaseFavoritesCount() {
+        if (this.favoritesCount > 0) {
+            this.favoritesCount--;
+        }
+        return this;
+    }
+
+    public Article increaseCommentsCount() {
+        this.commentsCount++;
+        return this;
+    }
+
+    public Article decreaseCommentsCount() {
+        if (this.commentsCount > 0) {
+            this.commentsCount--;
+        }
+        return this;
+    }
+
     public boolean isFavoriteBy(User user) {
         return this.favorites.contains(user);
     }
@@ -154,7 +196,7 @@ public class Article {
     }
 
     public int favoriteCount() {
-        return this.favorites.size();
+        return this.favoritesCount;
     }
 
     public String[] tags() {
@@ -0,0 +1,51 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Opaque keyset position in the `(createdAt DESC, id DESC)` ordering of articles.
+ */
+public record ArticleCursor(LocalDateTime createdAt, Integer id) {
+    public static final Comparator<ArticleCursor> NEWEST_FIRST =
+            Comparator.comparing(ArticleCursor::createdAt).thenComparing(ArticleCursor::id).reversed();
+
+    private static final ArticleCursor FIRST = new ArticleCursor(null, null);
+    private static final char DELIMITER = '|';
+
+    public static ArticleCursor first() {
+        return FIRST;
+    }
+
+    public static ArticleCursor of(Article article) {
+        return new ArticleCursor(article.createdAt(), article.id());
+    }
+
+    public static ArticleCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, delimiter));
+            Integer id = Integer.valueOf(decoded.substring(delimiter + 1));
+            return new ArticleCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: `%s`".formatted(cursor));
+        }
+    }
+
+    public boolean isFirst() {
+        return this.createdAt == null || this.id == null;
+    }
+
+    public String encode() {
+        String raw = this.createdAt.toString() + DELIMITER + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
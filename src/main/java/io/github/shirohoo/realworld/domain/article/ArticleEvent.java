@@ -0,0 +1,33 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by the article service for writes that other read models have to follow.
+ */
+public sealed interface ArticleEvent {
+    Integer articleId();
+
+    String slug();
+
+    record Created(Integer articleId, String slug, UUID authorId, String authorUsername, Set<String> tags)
+            implements ArticleEvent {}
+
+    record Updated(Integer articleId, String previousSlug, String slug) implements ArticleEvent {}
+
+    record Deleted(Integer articleId, String slug, UUID authorId, String authorUsername, Set<String> tags)
+            implements ArticleEvent {}
+
+    record Favorited(
+            Integer articleId, String slug, UUID userId, String username, String authorUsername, Set<String> tags)
+            implements ArticleEvent {}
+
+    record Unfavorited(
+            Integer articleId, String slug, UUID userId, String username, String authorUsername, Set<String> tags)
+            implements ArticleEvent {}
+
+    record Commented(Integer articleId, String slug, Integer commentId) implements ArticleEvent {}
+
+    record CommentDeleted(Integer articleId, String slug, Integer commentId) implements ArticleEvent {}
+}
@@ -0,0 +1,172 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * In-memory compressed bitmaps of article ordinals per tag, per author and per favoriting user.
+ * Ordinals are handed out in the order articles are added, so articles must be added oldest first;
+ * walking a bitmap backwards then yields the newest articles first.
+ */
+public class ArticleFacetIndex {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> byTag = new HashMap<>();
+    private final Map<UUID, RoaringBitmap> byAuthor = new HashMap<>();
+    private final Map<UUID, RoaringBitmap> byFavoriter = new HashMap<>();
+    private final Map<Integer, Integer> ordinals = new HashMap<>();
+    private int[] articleIds = new int[1024];
+    private int size;
+
+    public void add(Integer articleId, UUID authorId, Collection<String> tags) {
+        lock.writeLock().lock();
+        try {
+            if (ordinals.containsKey(articleId)) {
+                return;
+            }
+
+            int ordinal = this.nextOrdinal(articleId);
+            live.add(ordinal);
+            byAuthor.computeIfAbsent(authorId, it -> new RoaringBitmap()).add(ordinal);
+            tags.forEach(tag -> byTag.computeIfAbsent(tag, it -> new RoaringBitmap()).add(ordinal));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer articleId) {
+        lock.writeLock().lock();
+        try {
+            // The ordinal stays set in the facet bitmaps; queries mask it out through `live`.
+            Integer ordinal = ordinals.remove(articleId);
+            if (ordinal != null) {
+                live.remove(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void favorite(Integer articleId, UUID userId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(articleId);
+            if (ordinal != null) {
+                byFavoriter.computeIfAbsent(userId, it -> new RoaringBitmap()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void unfavorite(Integer articleId, UUID userId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(articleId);
+            RoaringBitmap favorites = byFavoriter.get(userId);
+            if (ordinal != null && favorites != null) {
+                favorites.remove(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            live.clear();
+            byTag.clear();
+            byAuthor.clear();
+            byFavoriter.clear();
+            ordinals.clear();
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the matching articles, newest first, skipping the first `offset` of them.
+     */
+    public List<Integer> findIds(Query query, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Integer> ids = new ArrayList<>(limit);
+            IntIterator iterator = this.match(query).getReverseIntIterator();
+            for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+                iterator.next();
+            }
+
+            while (ids.size() < limit && iterator.hasNext()) {
+                ids.add(articleIds[iterator.next()]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(Query query) {
+        lock.readLock().lock();
+        try {
+            return this.match(query).getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap match(Query query) {
+        RoaringBitmap result = live.clone();
+        for (String tag : query.allTags()) {
+            result.and(byTag.getOrDefault(tag, new RoaringBitmap()));
+        }
+
+        if (!query.anyTags().isEmpty()) {
+            RoaringBitmap anyTag = new RoaringBitmap();
+            query.anyTags().stream().map(byTag::get).filter(Objects::nonNull).forEach(anyTag::or);
+            result.and(anyTag);
+        }
+
+        if (query.author() != null) {
+            result.and(byAuthor.getOrDefault(query.author(), new RoaringBitmap()));
+        }
+
+        if (query.favoritedBy() != null) {
+            result.and(byFavoriter.getOrDefault(query.favoritedBy(), new RoaringBitmap()));
+        }
+        return result;
+    }
+
+    private int nextOrdinal(Integer articleId) {
+        if (size == articleIds.length) {
+            articleIds = Arrays.copyOf(articleIds, size * 2);
+        }
+
+        articleIds[size] = articleId;
+        ordinals.put(articleId, size);
+        return size++;
+    }
+
+    /**
+     * Articles must carry every tag in `allTags`, at least one tag in `anyTags` when it is not empty,
+     * and match `author` and `favoritedBy` when they are set.
+     */
+    public record Query(Collection<String> allTags, Collection<String> anyTags, UUID author, UUID favoritedBy) {
+        public Query {
+            allTags = allTags == null ? List.of() : allTags;
+            anyTags = anyTags == null ? List.of() : anyTags;
+        }
+    }
+}
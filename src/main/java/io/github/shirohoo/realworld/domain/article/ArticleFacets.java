@@ -3,7 +3,7 @@ package io.github.shirohoo.realworld.domain.article;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
-public record ArticleFacets(String tag, String author, String favorited, int offset, int limit) {
+public record ArticleFacets(String tag, String author, String favorited, int offset, int limit, ArticleCursor cursor) {
     public ArticleFacets {
         if (offset < 0) {
             offset = 0;
@@ -14,7 +14,26 @@ public record ArticleFacets(String tag, String author, String favorited, int off
         }
     }
 
+    public ArticleFacets(String tag, String author, String favorited, int offset, int limit) {
+        this(tag, author, favorited, offset, limit, null);
+    }
+
+    public boolean hasFilters() {
+        return this.tag != null || this.author != null || this.favorited != null;
+    }
+
+    public boolean isCursorMode() {
+        return this.cursor != null;
+    }
+
     public Pageable getPageable() {
         return PageRequest.of(offset, limit);
     }
+
+    /**
+     * Fetches one extra row so the caller can tell whether another page exists without counting.
+     */
+    public Pageable getCursorPageable() {
+        return PageRequest.ofSize(limit + 1);
+    }
 }
@@ -0,0 +1,5 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.util.UUID;
+
+public record ArticleFavorite(Integer articleId, UUID userId) {}
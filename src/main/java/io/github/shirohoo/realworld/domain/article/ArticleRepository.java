@@ -2,33 +2,257 @@ package io.github.shirohoo.realworld.domain.article;
 
 import io.github.shirohoo.realworld.domain.user.User;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface ArticleRepository extends JpaRepository<Article, Integer> {
+    /**
+     * Returns a slice rather than a page, so no `COUNT` runs alongside it; totals come from {@link #countByFacets}.
+     */
+    @Query(
+            """
+                    SELECT a.id FROM Article a
+                    WHERE (:tag IS NULL OR :tag IN (SELECT t.name FROM a.tags t))
+                    AND (:author IS NULL OR a.author.username = :author)
+                    AND (:favorited IS NULL OR :favorited IN (SELECT f.username FROM a.favorites f))
+                    ORDER BY a.createdAt DESC, a.id DESC
+                    """)
+    Slice<Integer> findIdsByFacets(
+            @Param("tag") String tag,
+            @Param("author") String author,
+            @Param("favorited") String favorited,
+            Pageable pageable);
+
+    @Query(
+            """
+                    SELECT COUNT(a) FROM Article a
+                    WHERE (:tag IS NULL OR :tag IN (SELECT t.name FROM a.tags t))
+                    AND (:author IS NULL OR a.author.username = :author)
+                    AND (:favorited IS NULL OR :favorited IN (SELECT f.username FROM a.favorites f))
+                    """)
+    long countByFacets(@Param("tag") String tag, @Param("author") String author, @Param("favorited") String favorited);
+
     @Query(
             """
-                    SELECT a FROM Article a
+                    SELECT a.id FROM Article a
                     WHERE (:tag IS NULL OR :tag IN (SELECT t.name FROM a.tags t))
                     AND (:author IS NULL OR a.author.username = :author)
                     AND (:favorited IS NULL OR :favorited IN (SELECT f.username FROM a.favorites f))
-                    ORDER BY a.createdAt DESC
+                    AND (:createdAt IS NULL OR a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+                    ORDER BY a.createdAt DESC, a.id DESC
                     """)
-    Page<Article> findByFacets(
+    List<Integer> findIdsByFacetsAfter(
             @Param("tag") String tag,
             @Param("author") String author,
             @Param("favorited") String favorited,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Integer id,
+            Pageable pageable);
+
+    @Query(
+            """
+                    SELECT a.id FROM Article a
+                    WHERE (:tag IS NULL OR :tag IN (SELECT t.name FROM a.tags t))
+                    AND (:author IS NULL OR a.author.username = :author)
+                    AND (:favorited IS NULL OR :favorited IN (SELECT f.username FROM a.favorites f))
+                    """)
+    Set<Integer> findIdsByFacets(
+            @Param("tag") String tag,
+            @Param("author") String author,
+            @Param("favorited") String favorited);
+
+    @Query(
+            """
+                    SELECT a.id FROM Article a
+                    WHERE a.author IN :authors
+                    AND (:createdAt IS NULL OR a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+                    ORDER BY a.createdAt DESC, a.id DESC
+                    """)
+    List<Integer> findIdsByAuthorInAfter(
+            @Param("authors") Collection<User> authors,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Integer id,
+            Pageable pageable);
+
+    @Query(
+            """
+                    SELECT new io.github.shirohoo.realworld.domain.article.ArticleCursor(a.createdAt, a.id)
+                    FROM Article a
+                    WHERE a.author.id IN :authorIds
+                    AND (:createdAt IS NULL OR a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+                    ORDER BY a.createdAt DESC, a.id DESC
+                    """)
+    List<ArticleCursor> findPositionsByAuthorIdIn(
+            @Param("authorIds") Collection<UUID> authorIds,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Integer id,
             Pageable pageable);
 
-    Page<Article> findByAuthorInOrderByCreatedAtDesc(Collection<User> authors, Pageable pageable);
+    /**
+     * Ids of the newest `limit` articles of each author, in one statement however many authors are asked for.
+     */
+    @Query(
+            value =
+                    """
+                    SELECT ranked.id FROM (
+                        SELECT a.id, ROW_NUMBER() OVER (
+                            PARTITION BY a.author_id ORDER BY a.created_at DESC, a.id DESC) AS row_rank
+                        FROM article a
+                        WHERE a.author_id IN (:authorIds)
+                    ) ranked
+                    WHERE ranked.row_rank <= :limit
+                    """,
+            nativeQuery = true)
+    List<Integer> findNewestIdsPerAuthorIdIn(@Param("authorIds") Collection<UUID> authorIds, @Param("limit") int limit);
+
+    @Query(
+            """
+                    SELECT new io.github.shirohoo.realworld.domain.article.AuthorPosition(
+                        a.author.id, a.createdAt, a.id)
+                    FROM Article a
+                    WHERE a.id IN :ids
+                    """)
+    List<AuthorPosition> findAuthorPositionsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Second phase of a list read: loads a page of articles with their author and tags in one statement.
+     * The result is not ordered; callers restore the order of the ids they passed in.
+     */
+    @EntityGraph(attributePaths = {"author", "tags"})
+    @Query("SELECT a FROM Article a WHERE a.id IN :ids")
+    List<Article> findAllWithAuthorAndTagsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Streaming counterpart of {@link #findAllWithAuthorAndTagsByIdIn}: a forward-only scroll, newest first,
+     * with the author joined. Tags are batch fetched as the caller walks the rows, so it needs a surrounding transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "20"))
+    @Query("SELECT a FROM Article a JOIN FETCH a.author WHERE a.id IN :ids ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<Article> streamWithAuthorByIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query("SELECT a.id FROM Article a JOIN a.favorites f WHERE f.id = :userId AND a.id IN :articleIds")
+    Set<Integer> findFavoritedIds(@Param("userId") UUID userId, @Param("articleIds") Collection<Integer> articleIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = "INSERT IGNORE INTO article_favorites (article_id, user_id) VALUES (:articleId, :userId)",
+            nativeQuery = true)
+    int insertFavorite(@Param("articleId") Integer articleId, @Param("userId") UUID userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = "DELETE FROM article_favorites WHERE article_id = :articleId AND user_id = :userId",
+            nativeQuery = true)
+    int deleteFavorite(@Param("articleId") Integer articleId, @Param("userId") UUID userId);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.favoritesCount = a.favoritesCount + 1 WHERE a.id = :id")
+    void incrementFavoritesCount(@Param("id") Integer id);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.favoritesCount = a.favoritesCount - 1 WHERE a.id = :id AND a.favoritesCount > 0")
+    void decrementFavoritesCount(@Param("id") Integer id);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.commentsCount = a.commentsCount + 1 WHERE a.id = :id")
+    void incrementCommentsCount(@Param("id") Integer id);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.commentsCount = a.commentsCount - 1 WHERE a.id = :id AND a.commentsCount > 0")
+    void decrementCommentsCount(@Param("id") Integer id);
+
+    /**
+     * Recomputes `favorites_count` from the join table for the articles that drifted from it.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                    UPDATE article a
+                    SET favorites_count = (SELECT COUNT(*) FROM article_favorites f WHERE f.article_id = a.id)
+                    WHERE favorites_count <> (SELECT COUNT(*) FROM article_favorites f WHERE f.article_id = a.id)
+                    """,
+            nativeQuery = true)
+    int repairFavoritesCount();
+
+    @Modifying
+    @Query(
+            value =
+                    """
+                    UPDATE article a
+                    SET comments_count = (SELECT COUNT(*) FROM comment c WHERE c.article_id = a.id)
+                    WHERE comments_count <> (SELECT COUNT(*) FROM comment c WHERE c.article_id = a.id)
+                    """,
+            nativeQuery = true)
+    int repairCommentsCount();
 
     Optional<Article> findBySlug(String slug);
 
+    @EntityGraph(attributePaths = {"author", "tags"})
+    Optional<Article> findWithAuthorAndTagsBySlug(String slug);
+
     boolean existsBySlug(String slug);
+
+    @Query("SELECT a.slug FROM Article a")
+    Stream<String> streamAllSlugs();
+
+    /**
+     * Pages through every article oldest first, after the position `(createdAt, id)` unless it is null.
+     */
+    @Query(
+            """
+                    SELECT new io.github.shirohoo.realworld.domain.article.AuthorPosition(
+                        a.author.id, a.createdAt, a.id)
+                    FROM Article a
+                    WHERE (:createdAt IS NULL OR a.createdAt > :createdAt OR (a.createdAt = :createdAt AND a.id > :id))
+                    ORDER BY a.createdAt, a.id
+                    """)
+    List<AuthorPosition> findAuthorPositionsAfter(
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Integer id, Pageable pageable);
+
+    /**
+     * Pages through the text of every article by id, after `id` unless it is null.
+     */
+    @Query(
+            """
+                    SELECT new io.github.shirohoo.realworld.domain.article.ArticleText(
+                        a.id, a.title, a.description, a.content)
+                    FROM Article a
+                    WHERE (:id IS NULL OR a.id > :id)
+                    ORDER BY a.id
+                    """)
+    List<ArticleText> findTextsAfter(@Param("id") Integer id, Pageable pageable);
+
+    @Query(
+            """
+                    SELECT new io.github.shirohoo.realworld.domain.article.ArticleTag(a.id, t.name)
+                    FROM Article a JOIN a.tags t
+                    WHERE a.id IN :ids
+                    """)
+    List<ArticleTag> findTagsByArticleIdIn(@Param("ids") Collection<Integer> ids);
+
+    @Query(
+            """
+                    SELECT new io.github.shirohoo.realworld.domain.article.ArticleFavorite(a.id, u.id)
+                    FROM Article a JOIN a.favorites u
+                    WHERE a.id IN :ids
+                    """)
+    List<ArticleFavorite> findFavoritesByArticleIdIn(@Param("ids") Collection<Integer> ids);
 }
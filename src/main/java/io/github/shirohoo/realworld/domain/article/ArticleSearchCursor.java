@@ -0,0 +1,57 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position in the `(score DESC, id DESC)` ranking of a search.
+ * `snapshot` names the ranking the position was taken from, or is null when there is none to resume.
+ */
+public record ArticleSearchCursor(String snapshot, double score, Integer id) {
+    private static final ArticleSearchCursor FIRST = new ArticleSearchCursor(null, Double.POSITIVE_INFINITY, null);
+    private static final String DELIMITER = "|";
+
+    public static ArticleSearchCursor first() {
+        return FIRST;
+    }
+
+    public static ArticleSearchCursor of(String snapshot, ArticleSearchIndex.Hit hit) {
+        return new ArticleSearchCursor(snapshot, hit.score(), hit.articleId());
+    }
+
+    public static ArticleSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException();
+            }
+
+            String snapshot = parts[0].isEmpty() ? null : parts[0];
+            return new ArticleSearchCursor(snapshot, Double.parseDouble(parts[1]), Integer.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: `%s`".formatted(cursor));
+        }
+    }
+
+    public boolean isFirst() {
+        return this.id == null;
+    }
+
+    public boolean precedes(ArticleSearchIndex.Hit hit) {
+        if (this.isFirst()) {
+            return true;
+        }
+
+        return ArticleSearchIndex.Hit.BEST_FIRST.compare(new ArticleSearchIndex.Hit(id, score), hit) < 0;
+    }
+
+    public String encode() {
+        String raw = (this.snapshot == null ? "" : this.snapshot) + DELIMITER + this.score + DELIMITER + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over the title, description and body of articles, ranked with BM25.
+ * Title terms count twice, so an article named after the query ranks above one that only mentions it.
+ */
+public class ArticleSearchIndex {
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private final Map<Integer, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Integer, Integer> lengths = new HashMap<>();
+    private long totalLength;
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Adds an article, replacing what was indexed for it before.
+     */
+    public void put(Integer articleId, String title, String description, String body) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(description).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        tokenize(body).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            this.removeDocument(articleId);
+            documents.put(articleId, frequencies);
+            lengths.put(articleId, length);
+            totalLength += length;
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, it -> new HashMap<>()).put(articleId, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer articleId) {
+        lock.writeLock().lock();
+        try {
+            this.removeDocument(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            lengths.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to `maxResults` matching articles, best first; ties are broken by the newer (higher) id.
+     */
+    public List<Hit> search(String query, int maxResults) {
+        return this.search(query, maxResults, articleId -> true);
+    }
+
+    /**
+     * Returns up to `maxResults` matching articles accepted by `filter`, best first.
+     * The filter runs before the cut-off, so a narrow filter still fills the results.
+     */
+    public List<Hit> search(String query, int maxResults, Predicate<Integer> filter) {
+        List<String> terms = tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Integer, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((articleId, frequency) -> {
+                    if (!filter.test(articleId)) {
+                        return;
+                    }
+
+                    double norm = K1 * (1 - B + B * lengths.get(articleId) / averageLength);
+                    scores.merge(articleId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+
+            return scores.entrySet().stream()
+                    .map(it -> new Hit(it.getKey(), it.getValue()))
+                    .sorted(Hit.BEST_FIRST)
+                    .limit(maxResults)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeDocument(Integer articleId) {
+        Map<String, Integer> frequencies = documents.remove(articleId);
+        if (frequencies == null) {
+            return;
+        }
+
+        totalLength -= lengths.remove(articleId);
+        frequencies.keySet().forEach(term -> {
+            Map<Integer, Integer> posting = postings.get(term);
+            posting.remove(articleId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    public record Hit(Integer articleId, double score) {
+        public static final Comparator<Hit> BEST_FIRST =
+                Comparator.comparingDouble(Hit::score).thenComparing(Hit::articleId).reversed();
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import io.github.shirohoo.realworld.domain.user.ProfileVO;
+import io.github.shirohoo.realworld.domain.user.ViewerContext;
+
+import java.util.UUID;
+
+/**
+ * The viewer-independent part of an article, safe to share between requests.
+ */
+public record ArticleSnapshot(Integer id, UUID authorId, ArticleVO article) {
+    public static ArticleSnapshot of(Article article) {
+        return new ArticleSnapshot(
+                article.id(), article.author().id(), new ArticleVO(ViewerContext.anonymous(), article));
+    }
+
+    public ArticleVO viewedBy(ViewerContext viewer) {
+        ProfileVO author = article.author();
+        return new ArticleVO(
+                article.slug(),
+                article.title(),
+                article.description(),
+                article.body(),
+                article.tagList(),
+                article.createdAt(),
+                article.updatedAt(),
+                viewer.isFavorite(id),
+                article.favoritesCount(),
+                article.commentsCount(),
+                new ProfileVO(author.username(), author.bio(), author.image(), viewer.isFollowing(authorId)));
+    }
+}
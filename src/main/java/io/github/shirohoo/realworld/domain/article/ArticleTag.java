@@ -0,0 +1,3 @@
+package io.github.shirohoo.realworld.domain.article;
+
+public record ArticleTag(Integer articleId, String name) {}
@@ -0,0 +1,6 @@
+package io.github.shirohoo.realworld.domain.article;
+
+/**
+ * The searchable text of an article.
+ */
+public record ArticleText(Integer id, String title, String description, String content) {}
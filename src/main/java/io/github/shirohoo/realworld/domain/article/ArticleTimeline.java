@@ -0,0 +1,84 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * The newest article positions of one author, newest first. A timeline that is not `complete` was cut at its
+ * bound, so the author may have older articles than the last position held here.
+ */
+public record ArticleTimeline(List<ArticleCursor> positions, boolean complete) {
+    /**
+     * Merges timelines with a heap, stopping once `limit` ids past `offset` are collected.
+     * Returns empty when the page reaches past the end of a timeline that is not complete.
+     */
+    public static Optional<List<Integer>> merge(
+            Collection<ArticleTimeline> timelines, ArticleCursor after, long offset, int limit) {
+        PriorityQueue<Head> heap =
+                new PriorityQueue<>(Comparator.comparing(Head::position, ArticleCursor.NEWEST_FIRST));
+        for (ArticleTimeline timeline : timelines) {
+            int index = timeline.indexAfter(after);
+            if (index < timeline.positions().size()) {
+                heap.add(new Head(timeline, index));
+            } else if (!timeline.complete()) {
+                return Optional.empty();
+            }
+        }
+
+        List<Integer> ids = new ArrayList<>(limit);
+        long skipped = 0;
+        boolean truncated = false;
+        while (ids.size() < limit && !heap.isEmpty()) {
+            if (truncated) {
+                return Optional.empty();
+            }
+
+            Head head = heap.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                ids.add(head.position().id());
+            }
+
+            int next = head.index() + 1;
+            if (next < head.timeline().positions().size()) {
+                heap.add(new Head(head.timeline(), next));
+            } else if (!head.timeline().complete()) {
+                truncated = true;
+            }
+        }
+
+        return truncated && ids.size() < limit ? Optional.empty() : Optional.of(ids);
+    }
+
+    /**
+     * Index of the first position older than `after`.
+     */
+    private int indexAfter(ArticleCursor after) {
+        if (after.isFirst()) {
+            return 0;
+        }
+
+        int low = 0;
+        int high = positions.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ArticleCursor.NEWEST_FIRST.compare(positions.get(mid), after) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private record Head(ArticleTimeline timeline, int index) {
+        ArticleCursor position() {
+            return timeline.positions().get(index);
+        }
+    }
+}
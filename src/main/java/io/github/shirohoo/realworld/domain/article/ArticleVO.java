@@ -2,6 +2,7 @@ package io.github.shirohoo.realworld.domain.article;
 
 import io.github.shirohoo.realworld.domain.user.ProfileVO;
 import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.ViewerContext;
 
 import java.time.LocalDateTime;
 
@@ -15,6 +16,7 @@ public record ArticleVO(
         LocalDateTime updatedAt,
         boolean favorited,
         int favoritesCount,
+        int commentsCount,
         ProfileVO author) {
     public ArticleVO(User me, Article article) {
         this(
@@ -27,6 +29,22 @@ public record ArticleVO(
                 article.updatedAt(),
                 article.isFavoriteBy(me),
                 article.favoriteCount(),
+                article.commentsCount(),
                 new ProfileVO(me, article.author()));
     }
+
+    public ArticleVO(ViewerContext viewer, Article article) {
+        this(
+                article.slug(),
+                article.title(),
+                article.description(),
+                article.content(),
+                article.tags(),
+                article.createdAt(),
+                article.updatedAt(),
+                viewer.isFavorite(article),
+                article.favoriteCount(),
+                article.commentsCount(),
+                new ProfileVO(viewer, article.author()));
+    }
 }
@@ -0,0 +1,13 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The position of an article in the `(createdAt DESC, id DESC)` ordering, together with its author.
+ */
+public record AuthorPosition(UUID authorId, LocalDateTime createdAt, Integer id) {
+    public ArticleCursor cursor() {
+        return new ArticleCursor(createdAt, id);
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in the `(createdAt DESC, id DESC)` ordering of the comments of an article.
+ */
+public record CommentCursor(LocalDateTime createdAt, Integer id) {
+    private static final CommentCursor FIRST = new CommentCursor(null, null);
+    private static final char DELIMITER = '|';
+
+    public static CommentCursor first() {
+        return FIRST;
+    }
+
+    public static CommentCursor of(Comment comment) {
+        return new CommentCursor(comment.createdAt(), comment.id());
+    }
+
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, delimiter));
+            Integer id = Integer.valueOf(decoded.substring(delimiter + 1));
+            return new CommentCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: `%s`".formatted(cursor));
+        }
+    }
+
+    public boolean isFirst() {
+        return this.createdAt == null || this.id == null;
+    }
+
+    public String encode() {
+        String raw = this.createdAt.toString() + DELIMITER + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,5 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.util.List;
+
+public record CommentPageVO(List<CommentVO> comments, String nextCursor) {}
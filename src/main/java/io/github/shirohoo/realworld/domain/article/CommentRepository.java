@@ -1,9 +1,32 @@
 package io.github.shirohoo.realworld.domain.article;
 
-import java.util.Set;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Integer> {
-    Set<Comment> findByArticleOrderByCreatedAtDesc(Article article);
+    /**
+     * Scrolls forward through a page of comments, newest first, older than the given position, with their authors.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "20"))
+    @Query(
+            """
+                    SELECT c FROM Comment c JOIN FETCH c.author
+                    WHERE c.article = :article
+                    AND (:createdAt IS NULL OR c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+                    ORDER BY c.createdAt DESC, c.id DESC
+                    """)
+    Stream<Comment> streamWithAuthorByArticleBefore(
+            @Param("article") Article article,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Integer id,
+            Pageable pageable);
 }
@@ -2,6 +2,7 @@ package io.github.shirohoo.realworld.domain.article;
 
 import io.github.shirohoo.realworld.domain.user.ProfileVO;
 import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.ViewerContext;
 
 import java.time.LocalDateTime;
 
@@ -14,4 +15,13 @@ public record CommentVO(int id, LocalDateTime createdAt, LocalDateTime updatedAt
                 comment.content(),
                 new ProfileVO(me, comment.author()));
     }
+
+    public CommentVO(ViewerContext viewer, Comment comment) {
+        this(
+                comment.id(),
+                comment.createdAt(),
+                comment.updatedAt(),
+                comment.content(),
+                new ProfileVO(viewer, comment.author()));
+    }
 }
@@ -0,0 +1,41 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+import lombok.experimental.Accessors;
+
+/**
+ * One article in a user's materialized home feed. Rows are only written by the bulk statements of
+ * {@link FeedEntryRepository}; `created_at` is copied from the article so the feed is read with one range scan.
+ */
+@Entity
+@Getter
+@IdClass(FeedEntry.Key.class)
+@Accessors(fluent = true, chain = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "IDX_feed_entry_user_created_at", columnList = "user_id, created_at, article_id"))
+public class FeedEntry {
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Id
+    @Column(name = "article_id")
+    private Integer articleId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID userId;
+        private Integer articleId;
+    }
+}
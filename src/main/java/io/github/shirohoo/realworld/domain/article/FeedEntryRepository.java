@@ -0,0 +1,103 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, FeedEntry.Key> {
+    @Query(
+            """
+                    SELECT new io.github.shirohoo.realworld.domain.article.ArticleCursor(f.createdAt, f.articleId)
+                    FROM FeedEntry f
+                    WHERE f.userId = :userId
+                    AND (:createdAt IS NULL OR f.createdAt < :createdAt
+                        OR (f.createdAt = :createdAt AND f.articleId < :id))
+                    ORDER BY f.createdAt DESC, f.articleId DESC
+                    """)
+    List<ArticleCursor> findPositions(
+            @Param("userId") UUID userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Integer id,
+            Pageable pageable);
+
+    /**
+     * Pushes an article into the feeds of everyone following its author.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                    INSERT IGNORE INTO feed_entry (user_id, article_id, created_at)
+                    SELECT uf.follower_id, a.id, a.created_at FROM article a
+                    JOIN users_follow uf ON uf.following_id = a.author_id
+                    WHERE a.id = :articleId
+                    """,
+            nativeQuery = true)
+    int fanOut(@Param("articleId") Integer articleId);
+
+    /**
+     * Pushes every article of an author into the feeds of their followers, e.g. when the author leaves pull mode.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                    INSERT IGNORE INTO feed_entry (user_id, article_id, created_at)
+                    SELECT uf.follower_id, a.id, a.created_at FROM article a
+                    JOIN users_follow uf ON uf.following_id = a.author_id
+                    WHERE a.author_id = :authorId
+                    """,
+            nativeQuery = true)
+    int fanOutAuthor(@Param("authorId") UUID authorId);
+
+    /**
+     * Pushes every article of every author in push mode into the feeds of their followers, for follows and articles
+     * that existed before the feed was materialized. Entries already there are left alone, so it can run again.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value =
+                    """
+                    INSERT IGNORE INTO feed_entry (user_id, article_id, created_at)
+                    SELECT uf.follower_id, a.id, a.created_at FROM article a
+                    JOIN users_follow uf ON uf.following_id = a.author_id
+                    WHERE a.author_id NOT IN (SELECT p.author_id FROM feed_pull_author p)
+                    """,
+            nativeQuery = true)
+    int fanOutAll();
+
+    /**
+     * Copies the articles of a newly followed author into the follower's feed.
+     */
+    @Modifying
+    @Query(
+            value =
+                    """
+                    INSERT IGNORE INTO feed_entry (user_id, article_id, created_at)
+                    SELECT :userId, a.id, a.created_at FROM article a
+                    WHERE a.author_id = :authorId
+                    """,
+            nativeQuery = true)
+    int backfill(@Param("userId") UUID userId, @Param("authorId") UUID authorId);
+
+    @Modifying
+    @Query(
+            value =
+                    """
+                    DELETE FROM feed_entry
+                    WHERE user_id = :userId
+                    AND article_id IN (SELECT a.id FROM article a WHERE a.author_id = :authorId)
+                    """,
+            nativeQuery = true)
+    int prune(@Param("userId") UUID userId, @Param("authorId") UUID authorId);
+
+    @Modifying
+    @Query("DELETE FROM FeedEntry f WHERE f.articleId = :articleId")
+    int deleteByArticleId(@Param("articleId") Integer articleId);
+}
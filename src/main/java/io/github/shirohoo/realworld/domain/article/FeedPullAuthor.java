@@ -0,0 +1,22 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+import lombok.experimental.Accessors;
+
+/**
+ * An author whose articles are pulled into feeds on read instead of being fanned out on write.
+ * Kept in the database so every node makes the same push or pull decision for an author.
+ */
+@Entity
+@Getter
+@Accessors(fluent = true, chain = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedPullAuthor {
+    @Id
+    @Column(name = "author_id")
+    private UUID authorId;
+}
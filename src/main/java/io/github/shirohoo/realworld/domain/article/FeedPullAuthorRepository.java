@@ -0,0 +1,41 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FeedPullAuthorRepository extends JpaRepository<FeedPullAuthor, UUID> {
+    @Query(
+            """
+                    SELECT p.authorId FROM FeedPullAuthor p
+                    WHERE p.authorId IN (SELECT f.id FROM User u JOIN u.followings f WHERE u.id = :userId)
+                    """)
+    Set<UUID> findFollowedBy(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO feed_pull_author (author_id) VALUES (:authorId)", nativeQuery = true)
+    int insert(@Param("authorId") UUID authorId);
+
+    /**
+     * Switches every author past the threshold to pull mode; authors already in it are left alone.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value =
+                    """
+                    INSERT IGNORE INTO feed_pull_author (author_id)
+                    SELECT uf.following_id FROM users_follow uf
+                    GROUP BY uf.following_id
+                    HAVING COUNT(*) > :threshold
+                    """,
+            nativeQuery = true)
+    int insertAuthorsWithMoreFollowersThan(@Param("threshold") long threshold);
+
+    @Modifying
+    @Query("DELETE FROM FeedPullAuthor p WHERE p.authorId = :authorId")
+    int deleteByAuthorId(@Param("authorId") UUID authorId);
+}
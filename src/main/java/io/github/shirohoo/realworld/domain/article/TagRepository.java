@@ -1,5 +1,27 @@
 package io.github.shirohoo.realworld.domain.article;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TagRepository extends JpaRepository<Tag, Integer> {
+    List<Tag> findByNameIn(Collection<String> names);
+
+    @Query(
+            """
+                    SELECT new io.github.shirohoo.realworld.domain.article.TagUsage(t.name, COUNT(a))
+                    FROM Tag t LEFT JOIN t.articles a
+                    GROUP BY t.id, t.name
+                    ORDER BY COUNT(a) DESC, t.name ASC
+                    """)
+    List<TagUsage> findAllUsages();
 
-public interface TagRepository extends JpaRepository<Tag, Integer> {}
+    @Modifying
+    @Query(
+            value = "DELETE FROM tag t WHERE NOT EXISTS (SELECT 1 FROM article_tags at WHERE at.tag_id = t.id)",
+            nativeQuery = true)
+    int deleteOrphans();
+}
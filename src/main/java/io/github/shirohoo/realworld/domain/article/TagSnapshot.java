@@ -0,0 +1,30 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import static java.util.stream.Collectors.joining;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * Tag names with their usage, most used first, and a version that changes whenever either changes.
+ */
+public record TagSnapshot(List<TagUsage> tags, String version) {
+    public static TagSnapshot of(List<TagUsage> tags) {
+        String content = tags.stream().map(it -> it.name() + ':' + it.articles()).collect(joining(","));
+        return new TagSnapshot(List.copyOf(tags), DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the names of the `limit` most used tags, or of every tag when `limit` is null.
+     */
+    public List<String> names(Integer limit) {
+        List<TagUsage> top = limit == null ? tags : tags.subList(0, Math.min(Math.max(limit, 0), tags.size()));
+        return top.stream().map(TagUsage::name).toList();
+    }
+
+    public String etag(Integer limit) {
+        return limit == null ? "\"%s\"".formatted(version) : "\"%s-%d\"".formatted(version, limit);
+    }
+}
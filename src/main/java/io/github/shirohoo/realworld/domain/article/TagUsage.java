@@ -0,0 +1,3 @@
+package io.github.shirohoo.realworld.domain.article;
+
+public record TagUsage(String name, long articles) {}
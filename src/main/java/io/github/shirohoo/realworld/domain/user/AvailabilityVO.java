@@ -0,0 +1,9 @@
+package io.github.shirohoo.realworld.domain.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Whether each of the asked names is free; names that were not asked about are left out.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AvailabilityVO(Boolean username, Boolean email, Boolean slug) {}
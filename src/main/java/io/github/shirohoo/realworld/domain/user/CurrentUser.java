@@ -0,0 +1,15 @@
+package io.github.shirohoo.realworld.domain.user;
+
+import java.util.UUID;
+
+/**
+ * The caller of a request. Controllers get it straight from the claims of the bearer token, without a lookup;
+ * services load the {@link User} behind it only where they change it.
+ */
+public interface CurrentUser {
+    UUID id();
+
+    String token();
+
+    record Claims(UUID id, String token) implements CurrentUser {}
+}
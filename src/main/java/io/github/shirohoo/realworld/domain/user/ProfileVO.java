@@ -4,4 +4,8 @@ public record ProfileVO(String username, String bio, String image, boolean follo
     public ProfileVO(User me, User to) {
         this(to.username(), to.bio(), to.image(), me != null && me.isFollowing(to));
     }
+
+    public ProfileVO(ViewerContext viewer, User to) {
+        this(to.username(), to.bio(), to.image(), viewer.isFollowing(to));
+    }
 }
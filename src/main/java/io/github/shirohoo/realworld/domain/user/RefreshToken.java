@@ -0,0 +1,54 @@
+package io.github.shirohoo.realworld.domain.user;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+import lombok.experimental.Accessors;
+
+/**
+ * A long-lived, single-use credential that trades for a new access token without checking the password again.
+ * Only the SHA-256 of the token is stored. Each trade issues the next token of the same family,
+ * the chain started by one login, so a token presented twice gives the whole family away.
+ */
+@Entity
+@Getter
+@Builder
+@Accessors(fluent = true, chain = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "refresh_token",
+        indexes = {
+            @Index(name = "IDX_refresh_token_family", columnList = "family_id"),
+            @Index(name = "IDX_refresh_token_user", columnList = "user_id")
+        })
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(nullable = false)
+    private boolean revoked;
+
+    public boolean isExpired(LocalDateTime now) {
+        return !this.expiresAt.isAfter(now);
+    }
+}
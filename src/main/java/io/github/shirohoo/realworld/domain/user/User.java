@@ -10,6 +10,7 @@ import java.util.UUID;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -24,10 +25,13 @@ import lombok.experimental.Accessors;
 @EntityListeners(AuditingEntityListener.class)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class User {
+public class User implements CurrentUser {
     @Id
     @Setter(AccessLevel.PRIVATE)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue(generator = "time_ordered_uuid")
+    @GenericGenerator(
+            name = "time_ordered_uuid",
+            strategy = "io.github.shirohoo.realworld.domain.user.TimeOrderedUUIDGenerator")
     private UUID id;
 
     @Setter
@@ -133,7 +137,8 @@ public class User {
 
     @Override
     public boolean equals(Object o) {
-        return o instanceof User other && Objects.equals(this.id, other.id);
+        // Read the other id through its accessor, so an uninitialized proxy compares by its id too.
+        return o instanceof User other && Objects.equals(this.id, other.id());
     }
 
     @Override
@@ -0,0 +1,16 @@
+package io.github.shirohoo.realworld.domain.user;
+
+import java.util.UUID;
+
+/**
+ * Published by the user and profile services for changes that other read models and caches have to follow.
+ */
+public sealed interface UserEvent {
+    record Followed(UUID followerId, UUID followingId) implements UserEvent {}
+
+    record Unfollowed(UUID followerId, UUID followingId) implements UserEvent {}
+
+    record SignedUp(UUID userId, String username, String email) implements UserEvent {}
+
+    record Updated(UUID userId, String username, String email) implements UserEvent {}
+}
@@ -0,0 +1,6 @@
+package io.github.shirohoo.realworld.domain.user;
+
+/**
+ * The identifiers of a user that must be unique across users.
+ */
+public record UserIdentifiers(String username, String email) {}
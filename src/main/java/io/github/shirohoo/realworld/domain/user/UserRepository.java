@@ -1,19 +1,55 @@
 package io.github.shirohoo.realworld.domain.user;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
 
+    /**
+     * Returns the users other than `exceptId` holding the username or the email, so both are checked in one query.
+     */
+    @Query(
+            """
+                    SELECT new io.github.shirohoo.realworld.domain.user.UserIdentifiers(u.username, u.email)
+                    FROM User u
+                    WHERE (u.username = :username OR u.email = :email)
+                    AND (:exceptId IS NULL OR u.id <> :exceptId)
+                    """)
+    List<UserIdentifiers> findTakenIdentifiers(
+            @Param("username") String username, @Param("email") String email, @Param("exceptId") UUID exceptId);
+
+    @Query("SELECT new io.github.shirohoo.realworld.domain.user.UserIdentifiers(u.username, u.email) FROM User u")
+    Stream<UserIdentifiers> streamAllIdentifiers();
+
     Optional<User> findByEmail(String email);
 
     Optional<User> findByUsername(String username);
 
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<UUID> findIdByUsername(@Param("username") String username);
+
+    @Query("SELECT u.username FROM User u WHERE u.id = :id")
+    Optional<String> findUsernameById(@Param("id") UUID id);
+
     List<User> findByFollowers(User user);
+
+    @Query("SELECT f.id FROM User u JOIN u.followings f WHERE u.id = :userId")
+    List<UUID> findAllFollowingIds(@Param("userId") UUID userId);
+
+    @Query("SELECT f.id FROM User u JOIN u.followings f WHERE u.id = :userId AND f.id IN :targetIds")
+    Set<UUID> findFollowingIds(@Param("userId") UUID userId, @Param("targetIds") Collection<UUID> targetIds);
+
+    @Query("SELECT COUNT(f) FROM User u JOIN u.followers f WHERE u.id = :userId")
+    long countFollowers(@Param("userId") UUID userId);
 }
@@ -1,7 +1,23 @@
 package io.github.shirohoo.realworld.domain.user;
 
-public record UserVO(String email, String token, String username, String bio, String image) {
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public record UserVO(
+        String email,
+        String token,
+        String username,
+        String bio,
+        String image,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String refreshToken) {
     public UserVO(User user) {
-        this(user.email(), user.token(), user.username(), user.bio(), user.image());
+        this(user.email(), user.token(), user.username(), user.bio(), user.image(), null);
+    }
+
+    public UserVO withToken(String token) {
+        return new UserVO(this.email, token, this.username, this.bio, this.image, this.refreshToken);
+    }
+
+    public UserVO withRefreshToken(String refreshToken) {
+        return new UserVO(this.email, this.token, this.username, this.bio, this.image, refreshToken);
     }
 }
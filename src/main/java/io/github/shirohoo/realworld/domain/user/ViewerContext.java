@@ -0,0 +1,35 @@
+package io.github.shirohoo.realworld.domain.user;
+
+import io.github.shirohoo.realworld.domain.article.Article;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * What the viewer of a response has favorited and followed, resolved once for all of its rows.
+ */
+public record ViewerContext(UUID viewerId, Set<Integer> favoritedArticleIds, Set<UUID> followingIds) {
+    private static final ViewerContext ANONYMOUS =
+            new ViewerContext(null, Collections.emptySet(), Collections.emptySet());
+
+    public static ViewerContext anonymous() {
+        return ANONYMOUS;
+    }
+
+    public boolean isFavorite(Article article) {
+        return this.isFavorite(article.id());
+    }
+
+    public boolean isFavorite(Integer articleId) {
+        return this.favoritedArticleIds.contains(articleId);
+    }
+
+    public boolean isFollowing(User user) {
+        return this.isFollowing(user.id());
+    }
+
+    public boolean isFollowing(UUID userId) {
+        return this.followingIds.contains(userId);
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.shirohoo.realworld;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.Comment;
+import io.github.shirohoo.realworld.domain.article.CommentRepository;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs against `database/schema.sql` instead of a generated schema, with the MySQL dialect, which has no native
+ * sequences and keeps them in `*_seq` tables instead.
+ */
+@IntegrationTest
+@TestPropertySource(
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:schema;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "spring.jpa.database-platform=org.hibernate.dialect.MySQL8Dialect",
+            "spring.jpa.hibernate.ddl-auto=none",
+            "spring.sql.init.mode=always",
+            "spring.sql.init.schema-locations=file:database/schema.sql"
+        })
+@DisplayName("The database schema")
+class DatabaseSchemaTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("hands out article and comment ids from the article_seq and comment_seq tables.")
+    void sequenceTables() throws Exception {
+        // given
+        User james = userRepository.save(User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password("password")
+                .build());
+
+        // when
+        Article effectiveJava = articleRepository.save(Article.builder().title("Effective Java").author(james).build());
+        Article javaPuzzlers = articleRepository.save(Article.builder().title("Java Puzzlers").author(james).build());
+        Comment comment = commentRepository.save(Comment.builder()
+                .article(effectiveJava)
+                .author(james)
+                .content("Test Comment")
+                .build());
+        commentRepository.flush();
+
+        // then
+        assertThat(javaPuzzlers.id()).isGreaterThan(effectiveJava.id());
+        assertThat(jdbcTemplate.queryForObject("SELECT next_val FROM article_seq", Long.class))
+                .isGreaterThan(javaPuzzlers.id());
+        assertThat(jdbcTemplate.queryForObject("SELECT next_val FROM comment_seq", Long.class))
+                .isGreaterThan(comment.id());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comment WHERE id = ?", Long.class, comment.id()))
+                .isOne();
+    }
+}
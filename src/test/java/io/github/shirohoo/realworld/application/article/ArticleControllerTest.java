@@ -113,6 +113,46 @@ class ArticleControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("provides an API that pages through recent articles with a cursor.")
+    void getArticlesByCursor() throws Exception {
+        mockMvc.perform(get("/api/articles").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articlesCount").value(1))
+                .andExpect(jsonPath("$.articles[0].title").value("Effective Java"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("provides an API that pages through recent articles with a cursor of the requested size.")
+    void getArticlesByCursorWithLimit() throws Exception {
+        // given
+        // - a second article by james
+        User james = userService.signUp(new SignUpUserRequest("james.to@example.com", "james.to", "1234"));
+        articleRepository.save(Article.builder().title("Java Puzzlers").author(james).build());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/articles").param("cursor", "").param("limit", "1"));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles", hasSize(1)))
+                .andExpect(jsonPath("$.articles[0].title").value("Java Puzzlers"))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("provides an API that searches articles by text.")
+    void searchArticles() throws Exception {
+        mockMvc.perform(get("/api/articles/search").param("q", "effective").param("tag", "java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.articles").isArray())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName(
             "provides an API that allows authenticated users to retrieve recent articles from users they are following.")
@@ -290,6 +330,54 @@ class ArticleControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("provides an API that pages through comments of a specific article with a `before` cursor.")
+    public void getCommentsBefore() throws Exception {
+        // given
+        // - create a test article
+        CreateArticleRequest createRequest =
+                new CreateArticleRequest("Test Article", "Test description", "Test body", List.of("test", "sample"));
+
+        // - get the slug of the article by james
+        String slug = JsonPath.parse(mockMvc.perform(post("/api/articles")
+                                .header("Authorization", jamesToken)
+                                .content(objectMapper.writeValueAsString(Map.of("article", createRequest)))
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString())
+                .read("$.article.slug");
+
+        // - create two comments by simpson
+        for (String body : List.of("First comment", "Second comment")) {
+            mockMvc.perform(post("/api/articles/{slug}/comments", slug)
+                    .header("Authorization", simpsonToken)
+                    .content(objectMapper.writeValueAsString(Map.of("comment", new CreateCommentRequest(body))))
+                    .contentType(MediaType.APPLICATION_JSON));
+        }
+
+        // - read the first page
+        String nextCursor = JsonPath.parse(mockMvc.perform(get("/api/articles/{slug}/comments", slug)
+                                .param("limit", "1"))
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString())
+                .read("$.nextCursor");
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/articles/{slug}/comments", slug)
+                .param("limit", "1")
+                .param("before", nextCursor));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments", hasSize(1)))
+                .andExpect(jsonPath("$.comments[0].body").value("First comment"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("provides an API that allows authenticated users to delete comments on articles.")
     public void deleteComment() throws Exception {
@@ -0,0 +1,104 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.application.article.service.ArticleCountCache;
+import io.github.shirohoo.realworld.domain.article.ArticleEvent;
+import io.github.shirohoo.realworld.domain.article.ArticleFacets;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The ArticleCountCache")
+class ArticleCountCacheTest {
+    private final List<List<Object>> counts = new CopyOnWriteArrayList<>();
+    private ArticleCountCache sut;
+
+    @BeforeEach
+    void setUp() {
+        // Records the facets of every `COUNT` instead of running it.
+        ArticleRepository articleRepository = (ArticleRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {ArticleRepository.class}, (proxy, method, args) -> {
+                    counts.add(Arrays.asList(args));
+                    return 0L;
+                });
+        sut = new ArticleCountCache(articleRepository, 100, Duration.ofMinutes(10));
+
+        sut.get(new ArticleFacets(null, null, null, 0, 20));
+        sut.get(new ArticleFacets("java", null, null, 0, 20));
+        sut.get(new ArticleFacets("kotlin", null, null, 0, 20));
+        sut.get(new ArticleFacets(null, "james", null, 0, 20));
+        sut.get(new ArticleFacets(null, "simpson", null, 0, 20));
+        sut.get(new ArticleFacets(null, null, "simpson", 0, 20));
+        counts.clear();
+    }
+
+    @Test
+    @DisplayName("recounts only the facets a new article falls under.")
+    void created() throws Exception {
+        // when
+        sut.on(new ArticleEvent.Created(1, "effective-java", UUID.randomUUID(), "james", Set.of("java")));
+
+        // then
+        assertThat(this.awaitCounts(3))
+                .containsExactlyInAnyOrder(
+                        Arrays.asList(null, null, null),
+                        Arrays.asList("java", null, null),
+                        Arrays.asList(null, "james", null));
+    }
+
+    @Test
+    @DisplayName("recounts the facets of a deleted article, including those filtered by favorites.")
+    void deleted() throws Exception {
+        // when
+        sut.on(new ArticleEvent.Deleted(1, "effective-java", UUID.randomUUID(), "simpson", Set.of("kotlin")));
+
+        // then
+        assertThat(this.awaitCounts(4))
+                .containsExactlyInAnyOrder(
+                        Arrays.asList(null, null, null),
+                        Arrays.asList("kotlin", null, null),
+                        Arrays.asList(null, "simpson", null),
+                        Arrays.asList(null, null, "simpson"));
+    }
+
+    @Test
+    @DisplayName("recounts only the favorites facets of the user who favorited, where the article falls under them.")
+    void favorited() throws Exception {
+        // given
+        sut.get(new ArticleFacets(null, null, "james", 0, 20));
+        sut.get(new ArticleFacets("java", null, "simpson", 0, 20));
+        sut.get(new ArticleFacets("kotlin", null, "simpson", 0, 20));
+        counts.clear();
+
+        // when
+        sut.on(new ArticleEvent.Favorited(1, "effective-java", UUID.randomUUID(), "Simpson", "james", Set.of("java")));
+
+        // then
+        assertThat(this.awaitCounts(2))
+                .containsExactlyInAnyOrder(
+                        Arrays.asList(null, null, "simpson"), Arrays.asList("java", null, "simpson"));
+    }
+
+    /**
+     * Refreshes run in the background; waits for the expected ones, then a little longer for any extra.
+     */
+    private List<List<Object>> awaitCounts(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (counts.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        return counts;
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.service.ArticleFacetSearch;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleFacets;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.Tag;
+import io.github.shirohoo.realworld.domain.article.TagRepository;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@DisplayName("The ArticleFacetSearch")
+@TestPropertySource(
+        properties = {
+            "realworld.article.facet-index.enabled=true",
+            "spring.jpa.properties.hibernate.generate_statistics=true"
+        })
+class ArticleFacetSearchTest {
+    @Autowired
+    private ArticleFacetSearch sut;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Article effectiveJava;
+    private Article kotlinInAction;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User james = userRepository.save(User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password("password")
+                .build());
+        User simpson = userRepository.save(User.builder()
+                .email("simpson@example.com")
+                .username("simpson")
+                .password("password")
+                .build());
+        Tag java = tagRepository.save(new Tag("java"));
+        Tag kotlin = tagRepository.save(new Tag("kotlin"));
+
+        effectiveJava = articleRepository.save(Article.builder()
+                .title("Effective Java")
+                .author(james)
+                .build()
+                .addTag(java)
+                .favorite(simpson));
+        kotlinInAction = articleRepository.save(Article.builder()
+                .title("Kotlin in Action")
+                .author(simpson)
+                .build()
+                .addTag(java)
+                .addTag(kotlin));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("rebuilds from id projections without loading any entity.")
+    void rebuild() throws Exception {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        sut.rebuild();
+
+        // then
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(sut.findIds(new ArticleFacets("java", null, null, 0, 20)))
+                .containsExactly(kotlinInAction.id(), effectiveJava.id());
+        assertThat(sut.findIds(new ArticleFacets("kotlin", null, null, 0, 20)))
+                .containsExactly(kotlinInAction.id());
+        assertThat(sut.findIds(new ArticleFacets(null, "james", null, 0, 20))).containsExactly(effectiveJava.id());
+        assertThat(sut.count(new ArticleFacets(null, null, "simpson", 0, 20))).isOne();
+    }
+
+    @Test
+    @DisplayName("resolves usernames of the facets without loading the users.")
+    void usernames() throws Exception {
+        // given
+        sut.rebuild();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        var ids = sut.findIds(new ArticleFacets(null, "james", "simpson", 0, 20));
+        var unknown = sut.findIds(new ArticleFacets(null, "nobody", null, 0, 20));
+
+        // then
+        assertThat(ids).containsExactly(effectiveJava.id());
+        assertThat(unknown).isEmpty();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
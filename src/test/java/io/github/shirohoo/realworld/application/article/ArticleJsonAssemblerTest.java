@@ -0,0 +1,113 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.controller.CreateArticleRequest;
+import io.github.shirohoo.realworld.application.article.controller.MultipleArticlesResponse;
+import io.github.shirohoo.realworld.application.article.service.ArticleJsonAssembler;
+import io.github.shirohoo.realworld.application.article.service.ArticleService;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleFacets;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.ArticleVO;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@IntegrationTest
+@DisplayName("The ArticleJsonAssembler")
+@TestPropertySource(properties = "realworld.article.json-assembly.enabled=true")
+class ArticleJsonAssemblerTest {
+    @Autowired
+    private ArticleJsonAssembler sut;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User james = User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password("password")
+                .bio("Says \"hello\" in Korean: 안녕")
+                .image("https://example.com/james.png")
+                .build();
+        userRepository.save(james);
+
+        User simpson = User.builder()
+                .email("simpson@example.com")
+                .username("simpson")
+                .password("password")
+                .build();
+        userRepository.save(simpson);
+
+        articleService.createArticle(
+                james, new CreateArticleRequest("Effective Java", "Description", "Body", List.of("java", "book")));
+        articleService.createArticle(simpson, new CreateArticleRequest("Clean Code", "Description", "Body", null));
+        articleRepository.save(Article.builder().title("Java Puzzlers").author(james).build());
+        articleService.favoriteArticle(simpson, "effective-java");
+        simpson.follow(james);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    static Stream<Arguments> sameAsArticleVOs() {
+        List<ArticleFacets> facets = List.of(
+                new ArticleFacets(null, null, null, 0, 20),
+                new ArticleFacets("java", null, null, 0, 20),
+                new ArticleFacets(null, "james", null, 0, 20),
+                new ArticleFacets(null, null, "simpson", 0, 20),
+                new ArticleFacets("java", "james", "simpson", 0, 20),
+                new ArticleFacets(null, null, null, 1, 1),
+                new ArticleFacets("unknown", null, null, 0, 20));
+        return Stream.of(null, "james", "simpson").flatMap(viewer -> facets.stream().map(it -> arguments(viewer, it)));
+    }
+
+    @MethodSource
+    @ParameterizedTest
+    @DisplayName("assembles the same body as serializing the ArticleVOs.")
+    void sameAsArticleVOs(String viewer, ArticleFacets facets) throws Exception {
+        // given
+        User me = viewer == null ? null : userRepository.findByUsername(viewer).orElseThrow();
+        List<ArticleVO> articles = articleService.getArticles(me, facets);
+        JsonNode expected = objectMapper.valueToTree(new MultipleArticlesResponse(articles, 42));
+
+        // when
+        JsonNode actual = objectMapper.readTree(sut.assemble(me, facets, 42));
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+}
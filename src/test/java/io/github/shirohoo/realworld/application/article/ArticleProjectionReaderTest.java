@@ -0,0 +1,97 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.controller.CreateArticleRequest;
+import io.github.shirohoo.realworld.application.article.service.ArticleService;
+import io.github.shirohoo.realworld.application.user.service.ViewerContextService;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleFacets;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.ArticleVO;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@DisplayName("The ArticleProjectionReader")
+@TestPropertySource(properties = "realworld.article.projection.enabled=true")
+class ArticleProjectionReaderTest {
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ViewerContextService viewerContextService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User james;
+    private User simpson;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        james = User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password("password")
+                .build();
+        userRepository.save(james);
+
+        simpson = User.builder()
+                .email("simpson@example.com")
+                .username("simpson")
+                .password("password")
+                .build();
+        userRepository.save(simpson);
+    }
+
+    @Test
+    @DisplayName("reads the same articles as the entity path.")
+    void sameAsEntities() throws Exception {
+        // given
+        articleService.createArticle(
+                james, new CreateArticleRequest("Effective Java", "Description", "Body", List.of("java", "book")));
+        articleService.createArticle(james, new CreateArticleRequest("Clean Code", "Description", "Body", null));
+        articleService.favoriteArticle(simpson, "effective-java");
+        simpson.follow(james);
+        entityManager.flush();
+        entityManager.clear();
+
+        ArticleFacets facets = new ArticleFacets(null, "james", null, 0, 20);
+        User reader = userRepository.findById(simpson.id()).orElseThrow();
+
+        // when
+        List<ArticleVO> projected = articleService.getArticles(reader, facets);
+
+        // then
+        List<Article> entities = articleRepository.findAllWithAuthorAndTagsByIdIn(
+                articleRepository.findIdsByFacets(null, "james", null, facets.getPageable()).getContent());
+        List<ArticleVO> expected = entities.stream()
+                .sorted((a, b) -> b.id().compareTo(a.id()))
+                .map(article -> new ArticleVO(viewerContextService.forArticles(reader, entities), article))
+                .toList();
+
+        assertThat(projected).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(expected);
+        assertThat(projected.get(1).tagList()).containsExactly("book", "java");
+        assertThat(projected.get(1).favorited()).isTrue();
+        assertThat(projected.get(1).author().following()).isTrue();
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.service.ArticleSearch;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.ArticleSearchIndex;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@DisplayName("The ArticleSearch")
+@TestPropertySource(properties = {"spring.jpa.properties.hibernate.generate_statistics=true"})
+class ArticleSearchTest {
+    @Autowired
+    private ArticleSearch sut;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("rebuilds from a keyset-paged projection, without counting or loading articles.")
+    void rebuild() throws Exception {
+        // given
+        User james = userRepository.save(User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password("password")
+                .build());
+        Article effectiveJava = articleRepository.save(Article.builder()
+                .title("Effective Java")
+                .description("Best practices")
+                .content("Prefer composition over inheritance")
+                .author(james)
+                .build());
+        Article javaPuzzlers = articleRepository.save(Article.builder()
+                .title("Java Puzzlers")
+                .content("Traps and pitfalls")
+                .author(james)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        sut.rebuild();
+
+        // then
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+        assertThat(sut.search("java"))
+                .extracting(ArticleSearchIndex.Hit::articleId)
+                .containsExactlyInAnyOrder(effectiveJava.id(), javaPuzzlers.id());
+        assertThat(sut.search("composition"))
+                .extracting(ArticleSearchIndex.Hit::articleId)
+                .containsExactly(effectiveJava.id());
+    }
+}
@@ -8,6 +8,7 @@ import io.github.shirohoo.realworld.IntegrationTest;
 import io.github.shirohoo.realworld.application.article.controller.CreateArticleRequest;
 import io.github.shirohoo.realworld.application.article.controller.CreateCommentRequest;
 import io.github.shirohoo.realworld.application.article.controller.UpdateArticleRequest;
+import io.github.shirohoo.realworld.application.article.service.ArticleSearch;
 import io.github.shirohoo.realworld.application.article.service.ArticleService;
 import io.github.shirohoo.realworld.domain.article.*;
 import io.github.shirohoo.realworld.domain.user.User;
@@ -43,6 +44,9 @@ class ArticleServiceTest {
     @Autowired
     private ArticleRepository articleRepository;
 
+    @Autowired
+    private ArticleSearch articleSearch;
+
     private Article effectiveJava;
     private User james;
     private User simpson;
@@ -87,6 +91,58 @@ class ArticleServiceTest {
                 arguments(new ArticleFacets("java", "james", "simpson", 0, 20), 0));
     }
 
+    @Test
+    @DisplayName("keeps the newest articles first when loading a page of articles.")
+    void getArticlesInOrder() throws Exception {
+        // given
+        Article effectiveKotlin = Article.builder().title("Effective Kotlin").author(james).build();
+        articleRepository.save(effectiveKotlin);
+
+        // when
+        List<ArticleVO> articles = sut.getArticles(james, new ArticleFacets(null, "james", null, 0, 20));
+
+        // then
+        assertThat(articles).extracting(ArticleVO::slug).containsExactly("effective-kotlin", "effective-java");
+    }
+
+    @Test
+    @DisplayName("provides a function to page through articles with a cursor.")
+    void getArticlesByCursor() throws Exception {
+        // given
+        Article effectiveKotlin = Article.builder().title("Effective Kotlin").author(james).build();
+        articleRepository.save(effectiveKotlin);
+
+        ArticleFacets firstPage = new ArticleFacets(null, "james", null, 0, 1, ArticleCursor.first());
+
+        // when
+        ArticlePageVO first = sut.getArticlesByCursor(james, firstPage);
+        ArticleFacets secondPage =
+                new ArticleFacets(null, "james", null, 0, 1, ArticleCursor.decode(first.nextCursor()));
+        ArticlePageVO second = sut.getArticlesByCursor(james, secondPage);
+
+        // then
+        assertThat(first.articles()).hasSize(1);
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.articles()).hasSize(1);
+        assertThat(second.nextCursor()).isNull();
+        assertThat(second.articles().get(0).slug()).isNotEqualTo(first.articles().get(0).slug());
+    }
+
+    @Test
+    @DisplayName("provides a function to count articles under specific conditions.")
+    void countArticles() throws Exception {
+        // given
+        Article effectiveKotlin = Article.builder().title("Effective Kotlin").author(james).build();
+        articleRepository.save(effectiveKotlin);
+
+        // when
+        long count = sut.countArticles(new ArticleFacets(null, "james", "james", 0, 1));
+
+        // then
+        assertThat(count).isZero();
+        assertThat(articleRepository.countByFacets(null, "james", null)).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("provides the function to create new articles.")
     void createArticle() throws Exception {
@@ -105,6 +161,21 @@ class ArticleServiceTest {
         assertThat(request.tagList()).contains(articleVO.tagList());
     }
 
+    @Test
+    @DisplayName("reuses existing tags and creates only the missing ones when creating articles.")
+    void createArticleWithExistingTag() throws Exception {
+        // given
+        CreateArticleRequest request =
+                new CreateArticleRequest("Test Title", "Test Description", "Test Body", List.of("java", "kotlin"));
+
+        // when
+        ArticleVO articleVO = sut.createArticle(james, request);
+
+        // then
+        assertThat(articleVO.tagList()).containsExactly("java", "kotlin");
+        assertThat(tagRepository.findAll()).extracting(Tag::name).containsExactlyInAnyOrder("java", "kotlin");
+    }
+
     @Test
     @DisplayName("provides the function to edit articles.")
     void updateArticle() throws Exception {
@@ -248,10 +319,51 @@ class ArticleServiceTest {
         commentRepository.saveAndFlush(comment);
 
         // when
-        List<CommentVO> comments = sut.getArticleComments(simpson, "effective-java");
+        CommentPageVO page = sut.getArticleComments(simpson, "effective-java", CommentCursor.first(), 20);
+
+        // then
+        assertThat(page.comments().size()).isOne();
+    }
+
+    @Test
+    @DisplayName("pages through the comments of a article, newest first, and keeps count of them.")
+    void getArticleCommentsBefore() throws Exception {
+        // given
+        CommentVO first = sut.createComment(james, "effective-java", new CreateCommentRequest("First"));
+        CommentVO second = sut.createComment(simpson, "effective-java", new CreateCommentRequest("Second"));
+        CommentVO third = sut.createComment(james, "effective-java", new CreateCommentRequest("Third"));
+
+        // when
+        CommentPageVO firstPage = sut.getArticleComments(simpson, "effective-java", CommentCursor.first(), 2);
+        CommentCursor before = CommentCursor.decode(firstPage.nextCursor());
+        CommentPageVO lastPage = sut.getArticleComments(simpson, "effective-java", before, 2);
+
+        // then
+        assertThat(firstPage.comments()).extracting(CommentVO::id).containsExactly(third.id(), second.id());
+        assertThat(lastPage.comments()).extracting(CommentVO::id).containsExactly(first.id());
+        assertThat(lastPage.nextCursor()).isNull();
+        assertThat(effectiveJava.commentsCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("caps a page of comments at 100 rather than falling back to the default size.")
+    void getArticleCommentsOverLimit() throws Exception {
+        // given
+        for (int i = 0; i < 101; i++) {
+            commentRepository.save(Comment.builder()
+                    .author(simpson)
+                    .content("Comment " + i)
+                    .article(effectiveJava)
+                    .build());
+        }
+        commentRepository.flush();
+
+        // when
+        CommentPageVO page = sut.getArticleComments(simpson, "effective-java", CommentCursor.first(), 150);
 
         // then
-        assertThat(comments.size()).isOne();
+        assertThat(page.comments()).hasSize(100);
+        assertThat(page.nextCursor()).isNotNull();
     }
 
     @Test
@@ -296,4 +408,68 @@ class ArticleServiceTest {
         // then
         assertThat(effectiveJava.favoriteCount()).isZero();
     }
+
+    @Test
+    @DisplayName("pages through the ranking the first page of a search was cut from.")
+    void searchArticlesFromSnapshot() throws Exception {
+        // given
+        articleRepository.save(Article.builder().title("Kotlin in Action").author(james).build());
+        articleRepository.save(Article.builder().title("Effective Kotlin").author(james).build());
+        articleSearch.rebuild();
+        ArticleFacets facets = new ArticleFacets(null, null, null, 0, 1);
+        ArticlePageVO first = sut.searchArticles(james, "kotlin", facets, ArticleSearchCursor.first());
+
+        articleRepository.save(Article.builder()
+                .title("Kotlin Kotlin Kotlin")
+                .description("Kotlin")
+                .author(james)
+                .build());
+        articleSearch.rebuild();
+
+        // when
+        ArticlePageVO second =
+                sut.searchArticles(james, "kotlin", facets, ArticleSearchCursor.decode(first.nextCursor()));
+
+        // then
+        assertThat(first.articles()).hasSize(1);
+        assertThat(second.articles()).hasSize(1);
+        assertThat(List.of(first.articles().get(0).title(), second.articles().get(0).title()))
+                .containsExactlyInAnyOrder("Kotlin in Action", "Effective Kotlin");
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("resumes a search from a fresh ranking once its snapshot is gone.")
+    void searchArticlesWithoutSnapshot() throws Exception {
+        // given
+        articleRepository.save(Article.builder().title("Kotlin in Action").author(james).build());
+        articleRepository.save(Article.builder().title("Effective Kotlin").author(james).build());
+        articleSearch.rebuild();
+        ArticleFacets facets = new ArticleFacets(null, null, null, 0, 1);
+        ArticlePageVO first = sut.searchArticles(james, "kotlin", facets, ArticleSearchCursor.first());
+        ArticleSearchCursor cursor = ArticleSearchCursor.decode(first.nextCursor());
+        ArticleSearchCursor expired = new ArticleSearchCursor("expired", cursor.score(), cursor.id());
+
+        // when
+        ArticlePageVO second = sut.searchArticles(james, "kotlin", facets, expired);
+
+        // then
+        assertThat(second.articles()).extracting(ArticleVO::title).doesNotContain(first.articles().get(0).title());
+        assertThat(second.articles()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("applies the filters of a search before capping its hits.")
+    void searchArticlesFiltered() throws Exception {
+        // given
+        articleRepository.save(Article.builder().title("Java Puzzlers").author(simpson).build());
+        articleSearch.rebuild();
+
+        // when
+        ArticlePageVO page = sut.searchArticles(
+                james, "java", new ArticleFacets(null, "simpson", null, 0, 20), ArticleSearchCursor.first());
+
+        // then
+        assertThat(page.articles()).extracting(ArticleVO::title).containsExactly("Java Puzzlers");
+    }
 }
@@ -0,0 +1,110 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.service.ArticleSlugCache;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleEvent;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserEvent;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@IntegrationTest
+@DisplayName("The ArticleSlugCache")
+class ArticleSlugCacheTest {
+    @Autowired
+    private ArticleSlugCache sut;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User james;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        james = User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password("password")
+                .build();
+        userRepository.save(james);
+    }
+
+    @Test
+    @DisplayName("serves cached articles until an article event invalidates them.")
+    void invalidate() throws Exception {
+        // given
+        Article article = Article.builder().title("Slug Cache Hit").author(james).build();
+        articleRepository.save(article);
+        sut.get(article.slug());
+
+        // when
+        articleRepository.delete(article);
+        var cached = sut.get(article.slug());
+
+        sut.on(new ArticleEvent.Deleted(article.id(), article.slug(), james.id(), "james", Set.of()));
+        var invalidated = sut.get(article.slug());
+
+        // then
+        assertThat(cached).isPresent();
+        assertThat(invalidated).isEmpty();
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "articles.by-slug")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("drops the cached articles of an author who updates their profile.")
+    void authorUpdated() throws Exception {
+        // given
+        Article article = Article.builder().title("Slug Cache Author").author(james).build();
+        articleRepository.save(article);
+        sut.get(article.slug());
+
+        // when
+        james.bio("I like to skateboard");
+        var cached = sut.get(article.slug());
+
+        sut.on(new UserEvent.Updated(james.id(), "james", "james@example.com"));
+        var reloaded = sut.get(article.slug());
+
+        // then
+        assertThat(cached.orElseThrow().article().author().bio()).isNull();
+        assertThat(reloaded.orElseThrow().article().author().bio()).isEqualTo("I like to skateboard");
+    }
+
+    @Test
+    @DisplayName("caches slugs that were not found.")
+    void notFound() throws Exception {
+        // given
+        sut.get("slug-cache-miss");
+
+        // when
+        articleRepository.save(Article.builder().title("Slug Cache Miss").author(james).build());
+        var cached = sut.get("slug-cache-miss");
+
+        // then
+        assertThat(cached).isEmpty();
+    }
+}
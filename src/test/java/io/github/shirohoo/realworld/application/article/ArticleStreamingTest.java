@@ -0,0 +1,223 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.controller.MultipleArticlesResponse;
+import io.github.shirohoo.realworld.application.article.service.ArticleService;
+import io.github.shirohoo.realworld.application.user.controller.LoginUserRequest;
+import io.github.shirohoo.realworld.application.user.controller.SignUpUserRequest;
+import io.github.shirohoo.realworld.application.user.service.UserService;
+import io.github.shirohoo.realworld.domain.article.*;
+import io.github.shirohoo.realworld.domain.user.User;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The list endpoints write their bodies element by element; these pin the bodies to what serializing the response
+ * records used to produce. Pages span more than one chunk of the scroll, so chunks are detached along the way.
+ */
+@IntegrationTest
+@DisplayName("The streamed article and comment lists")
+class ArticleStreamingTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User simpson;
+    private String simpsonToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        User james = userService.signUp(new SignUpUserRequest("james@example.com", "james", "1234"));
+        simpson = userService.signUp(new SignUpUserRequest("simpson@example.com", "simpson", "1234"));
+        simpson.follow(james);
+
+        Tag java = new Tag("java");
+        tagRepository.save(java);
+
+        for (int i = 0; i < 30; i++) {
+            Article article = Article.builder()
+                    .title("Article " + i)
+                    .author(i % 3 == 0 ? simpson : james)
+                    .build()
+                    .addTag(java);
+            if (i % 2 == 0) {
+                article.favorite(simpson);
+            }
+            articleRepository.save(article);
+        }
+
+        Article commented = articleRepository.findBySlug("article-1").orElseThrow();
+        for (int i = 0; i < 30; i++) {
+            commentRepository.save(Comment.builder()
+                    .article(commented)
+                    .author(i % 2 == 0 ? simpson : james)
+                    .content("Comment " + i)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        simpsonToken = "Token " + userService.login(new LoginUserRequest("simpson@example.com", "1234")).token();
+    }
+
+    @Test
+    @DisplayName("writes a page of articles by offset as the response record did.")
+    void getArticles() throws Exception {
+        // given
+        ArticleFacets facets = new ArticleFacets("java", null, null, 1, 25);
+        List<ArticleVO> articles = articleService.getArticles(simpson, facets);
+        long articlesCount = articleService.countArticles(facets);
+        String expected = objectMapper.writeValueAsString(new MultipleArticlesResponse(articles, articlesCount));
+
+        // when
+        String actual = this.perform(get("/api/articles")
+                .header("Authorization", simpsonToken)
+                .param("tag", "java")
+                .param("limit", "1")
+                .param("offset", "25"));
+
+        // then
+        assertThat(articles).isNotEmpty();
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("writes a page of articles by cursor as the response record did.")
+    void getArticlesByCursor() throws Exception {
+        // given
+        ArticlePageVO first = articleService.getArticlesByCursor(
+                simpson, new ArticleFacets(null, null, null, 0, 25, ArticleCursor.first()));
+        ArticlePageVO second = articleService.getArticlesByCursor(
+                simpson, new ArticleFacets(null, null, null, 0, 25, ArticleCursor.decode(first.nextCursor())));
+
+        // when
+        String firstPage = this.perform(get("/api/articles")
+                .header("Authorization", simpsonToken)
+                .param("cursor", "")
+                .param("limit", "25"));
+        String secondPage = this.perform(get("/api/articles")
+                .header("Authorization", simpsonToken)
+                .param("cursor", first.nextCursor())
+                .param("limit", "25"));
+
+        // then
+        assertThat(firstPage).isEqualTo(objectMapper.writeValueAsString(new MultipleArticlesResponse(first)));
+        assertThat(secondPage).isEqualTo(objectMapper.writeValueAsString(new MultipleArticlesResponse(second)));
+    }
+
+    @Test
+    @DisplayName("writes a page of the feed by offset as the response record did.")
+    void getFeedArticles() throws Exception {
+        // given
+        List<ArticleVO> articles = articleService.getFeedArticles(simpson, new ArticleFacets(null, null, null, 0, 25));
+        String expected = objectMapper.writeValueAsString(new MultipleArticlesResponse(articles));
+
+        // when
+        String actual = this.perform(get("/api/articles/feed")
+                .header("Authorization", simpsonToken)
+                .param("limit", "0")
+                .param("offset", "25"));
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("writes a page of the feed by cursor as the response record did.")
+    void getFeedArticlesByCursor() throws Exception {
+        // given
+        ArticlePageVO page = articleService.getFeedArticlesByCursor(
+                simpson, new ArticleFacets(null, null, null, 0, 25, ArticleCursor.first()));
+        String expected = objectMapper.writeValueAsString(new MultipleArticlesResponse(page));
+
+        // when
+        String actual = this.perform(get("/api/articles/feed")
+                .header("Authorization", simpsonToken)
+                .param("cursor", "")
+                .param("limit", "25"));
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("writes the comments of an article as the response record did.")
+    void getComments() throws Exception {
+        // given
+        CommentPageVO first = articleService.getArticleComments(simpson, "article-1", CommentCursor.first(), 25);
+        CommentPageVO second = articleService.getArticleComments(
+                simpson, "article-1", CommentCursor.decode(first.nextCursor()), 25);
+
+        // when
+        String firstPage = this.perform(get("/api/articles/{slug}/comments", "article-1")
+                .header("Authorization", simpsonToken)
+                .param("limit", "25"));
+        String secondPage = this.perform(get("/api/articles/{slug}/comments", "article-1")
+                .header("Authorization", simpsonToken)
+                .param("limit", "25")
+                .param("before", first.nextCursor()));
+
+        // then
+        assertThat(first.comments()).hasSize(25);
+        assertThat(second.comments()).hasSize(5);
+        assertThat(firstPage).isEqualTo(objectMapper.writeValueAsString(new MultipleCommentsResponse(first)));
+        assertThat(secondPage).isEqualTo(objectMapper.writeValueAsString(new MultipleCommentsResponse(second)));
+    }
+
+    private String perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The record the comments endpoint serialized before it streamed its body.
+     */
+    private record MultipleCommentsResponse(
+            CommentVO[] comments, @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
+        MultipleCommentsResponse(CommentPageVO page) {
+            this(page.comments().toArray(CommentVO[]::new), page.nextCursor());
+        }
+    }
+}
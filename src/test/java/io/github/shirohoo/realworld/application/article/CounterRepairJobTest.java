@@ -0,0 +1,92 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.service.CounterRepairJob;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.Comment;
+import io.github.shirohoo.realworld.domain.article.CommentRepository;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@IntegrationTest
+@DisplayName("The CounterRepairJob")
+class CounterRepairJobTest {
+    @Autowired
+    private CounterRepairJob sut;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("recomputes favorites_count from the join table.")
+    void repair() throws Exception {
+        // given
+        User james = User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password("password")
+                .build();
+        userRepository.save(james);
+
+        Article effectiveJava = Article.builder().title("Effective Java").author(james).build();
+        articleRepository.save(effectiveJava);
+
+        // - a favorite written without touching the counter
+        articleRepository.insertFavorite(effectiveJava.id(), james.id());
+
+        // when
+        sut.repair();
+
+        // then
+        Integer favoritesCount = jdbcTemplate.queryForObject(
+                "SELECT favorites_count FROM article WHERE id = ?", Integer.class, effectiveJava.id());
+        assertThat(favoritesCount).isOne();
+    }
+
+    @Test
+    @DisplayName("recomputes comments_count from the comment table.")
+    void repairCommentsCount() throws Exception {
+        // given
+        User james = User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password("password")
+                .build();
+        userRepository.save(james);
+
+        Article effectiveJava = Article.builder().title("Effective Java").author(james).build();
+        articleRepository.saveAndFlush(effectiveJava);
+
+        // - a comment written without touching the counter
+        commentRepository.saveAndFlush(Comment.builder()
+                .article(effectiveJava)
+                .author(james)
+                .content("Test Comment")
+                .build());
+
+        // when
+        sut.repair();
+
+        // then
+        Integer commentsCount = jdbcTemplate.queryForObject(
+                "SELECT comments_count FROM article WHERE id = ?", Integer.class, effectiveJava.id());
+        assertThat(commentsCount).isOne();
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.service.MaterializedFeedEngine;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleCursor;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.FeedEntryRepository;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@DisplayName("The MaterializedFeedEngine switched on over existing data")
+@TestPropertySource(properties = {"realworld.article.feed.engine=materialized"})
+class MaterializedFeedCatchUpTest {
+    @Autowired
+    private MaterializedFeedEngine sut;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private FeedEntryRepository feedEntryRepository;
+
+    @Test
+    @DisplayName("fans out the articles of follows made before it ran, once however often it catches up.")
+    void catchUp() throws Exception {
+        // given
+        // - a follow and articles written without any fan-out, as by another feed engine
+        User james = userRepository.save(User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password("password")
+                .build());
+        User simpson = userRepository.save(User.builder()
+                .email("simpson@example.com")
+                .username("simpson")
+                .password("password")
+                .build());
+        simpson.follow(james);
+        Article effectiveJava =
+                articleRepository.save(Article.builder().title("Effective Java").author(james).build());
+        Article javaPuzzlers =
+                articleRepository.save(Article.builder().title("Java Puzzlers").author(james).build());
+        userRepository.flush();
+        assertThat(sut.findIds(simpson, ArticleCursor.first(), PageRequest.of(0, 20))).isEmpty();
+
+        // when
+        sut.catchUp();
+        sut.catchUp();
+        var ids = sut.findIds(simpson, ArticleCursor.first(), PageRequest.of(0, 20));
+
+        // then
+        assertThat(ids).containsExactly(javaPuzzlers.id(), effectiveJava.id());
+        assertThat(feedEntryRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.service.MaterializedFeedEngine;
+import io.github.shirohoo.realworld.application.user.service.ProfileService;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleCursor;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.article.FeedEntryRepository;
+import io.github.shirohoo.realworld.domain.article.FeedPullAuthorRepository;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@DisplayName("The MaterializedFeedEngine")
+@TestPropertySource(
+        properties = {"realworld.article.feed.engine=materialized", "realworld.article.feed.fan-out-threshold=0"})
+class MaterializedFeedEngineTest {
+    @Autowired
+    private MaterializedFeedEngine sut;
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private FeedEntryRepository feedEntryRepository;
+
+    @Autowired
+    private FeedPullAuthorRepository feedPullAuthorRepository;
+
+    private User james;
+    private User simpson;
+    private Article effectiveJava;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        james = User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password("password")
+                .build();
+        userRepository.save(james);
+
+        simpson = User.builder()
+                .email("simpson@example.com")
+                .username("simpson")
+                .password("password")
+                .build();
+        userRepository.save(simpson);
+
+        effectiveJava = Article.builder().title("Effective Java").author(james).build();
+        articleRepository.save(effectiveJava);
+    }
+
+    @Test
+    @DisplayName("serves the articles fanned out to a follower.")
+    void fanOut() throws Exception {
+        // given
+        simpson.follow(james);
+        feedEntryRepository.fanOut(effectiveJava.id());
+
+        // when
+        var ids = sut.findIds(simpson, ArticleCursor.first(), PageRequest.of(0, 20));
+
+        // then
+        assertThat(ids).containsExactly(effectiveJava.id());
+    }
+
+    @Test
+    @DisplayName("backfills the feed on follow and prunes it on unfollow.")
+    void followAndUnfollow() throws Exception {
+        // when
+        profileService.follow(simpson, "james");
+        var followed = sut.findIds(simpson, ArticleCursor.first(), PageRequest.of(0, 20));
+
+        profileService.unfollow(simpson, "james");
+        var unfollowed = sut.findIds(simpson, ArticleCursor.first(), PageRequest.of(0, 20));
+
+        // then
+        assertThat(followed).containsExactly(effectiveJava.id());
+        assertThat(unfollowed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("pulls the articles of authors past the fan-out threshold, as recorded in the database.")
+    void pullAuthors() throws Exception {
+        // given
+        // - james passes the threshold of no followers without any fan-out
+        simpson.follow(james);
+        sut.catchUp();
+
+        // when
+        var ids = sut.findIds(simpson, ArticleCursor.first(), PageRequest.of(0, 20));
+
+        // then
+        assertThat(feedPullAuthorRepository.existsById(james.id())).isTrue();
+        assertThat(ids).containsExactly(effectiveJava.id());
+    }
+
+    @Test
+    @DisplayName("fans out every article of an author that leaves pull mode.")
+    void leavePullMode() throws Exception {
+        // given
+        simpson.follow(james);
+        feedPullAuthorRepository.insert(james.id());
+
+        // when
+        feedPullAuthorRepository.deleteByAuthorId(james.id());
+        feedEntryRepository.fanOutAuthor(james.id());
+        var ids = sut.findIds(simpson, ArticleCursor.first(), PageRequest.of(0, 20));
+
+        // then
+        assertThat(ids).containsExactly(effectiveJava.id());
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.service.OrphanTagPruningJob;
+import io.github.shirohoo.realworld.application.article.service.TagDictionary;
+import io.github.shirohoo.realworld.domain.article.Tag;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@DisplayName("The TagDictionary")
+// Resolutions have to commit to race each other, so these tests run outside a test transaction.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TagDictionaryTest {
+    @Autowired
+    private TagDictionary sut;
+
+    @Autowired
+    private OrphanTagPruningJob orphanTagPruningJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jdbcTemplate.update("DELETE FROM tag WHERE name IN ('dictionary-race', 'dictionary-pruned')");
+    }
+
+    @Test
+    @DisplayName("lets concurrent resolutions of the same new tag all succeed with one row.")
+    void concurrentInserts() throws Exception {
+        // given
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<Set<Tag>> resolve = () -> {
+            start.await();
+            return sut.resolve(List.of("dictionary-race"));
+        };
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Set<Tag>>> results = IntStream.range(0, threads)
+                    .mapToObj(i -> executor.submit(resolve))
+                    .toList();
+            start.countDown();
+            for (Future<Set<Tag>> result : results) {
+                assertThat(result.get()).extracting(Tag::name).containsExactly("dictionary-race");
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        Integer rows =
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tag WHERE name = 'dictionary-race'", Integer.class);
+        assertThat(rows).isOne();
+    }
+
+    @Test
+    @DisplayName("creates a tag again after it was pruned as an orphan.")
+    void pruned() throws Exception {
+        // given
+        Integer before = sut.resolve(List.of("dictionary-pruned")).iterator().next().id();
+        orphanTagPruningJob.prune();
+
+        // when
+        Set<Tag> tags = sut.resolve(List.of("dictionary-pruned"));
+
+        // then
+        assertThat(tags).extracting(Tag::name).containsExactly("dictionary-pruned");
+        assertThat(tags.iterator().next().id()).isNotEqualTo(before);
+    }
+}
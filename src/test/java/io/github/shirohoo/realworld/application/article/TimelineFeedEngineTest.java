@@ -0,0 +1,87 @@
+package io.github.shirohoo.realworld.application.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.article.service.TimelineFeedEngine;
+import io.github.shirohoo.realworld.domain.article.Article;
+import io.github.shirohoo.realworld.domain.article.ArticleCursor;
+import io.github.shirohoo.realworld.domain.article.ArticleRepository;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@DisplayName("The TimelineFeedEngine")
+@TestPropertySource(
+        properties = {
+            "realworld.article.feed.engine=timeline",
+            "spring.jpa.properties.hibernate.generate_statistics=true"
+        })
+class TimelineFeedEngineTest {
+    @Autowired
+    private TimelineFeedEngine sut;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User simpson;
+    private final List<Integer> articleIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        simpson = userRepository.save(User.builder()
+                .email("simpson@example.com")
+                .username("simpson")
+                .password("password")
+                .build());
+
+        for (String username : List.of("james", "kim", "lee")) {
+            User author = userRepository.save(User.builder()
+                    .email(username + "@example.com")
+                    .username(username)
+                    .password("password")
+                    .build());
+            simpson.follow(author);
+            articleIds.add(0, articleRepository
+                    .save(Article.builder().title("Written by " + username).author(author).build())
+                    .id());
+        }
+        userRepository.flush();
+    }
+
+    @Test
+    @DisplayName("loads the timelines of every followed author missing from the cache in one go.")
+    void bulkLoad() throws Exception {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        var ids = sut.findIds(simpson, ArticleCursor.first(), PageRequest.of(0, 20));
+
+        // then
+        // - the followings, the newest ids per author and their positions, whatever the number of authors
+        assertThat(ids).containsExactlyElementsOf(articleIds);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.shirohoo.realworld.application.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+@DisplayName("The CachingJwtDecoder")
+class CachingJwtDecoderTest {
+    private final AtomicInteger decodes = new AtomicInteger();
+
+    private JwtDecoder delegate(Instant expiresAt) {
+        return token -> {
+            decodes.incrementAndGet();
+            if (token.startsWith("bad")) {
+                throw new BadJwtException("Invalid signature");
+            }
+            return Jwt.withTokenValue(token)
+                    .header("alg", "RS256")
+                    .subject("james")
+                    .issuedAt(Instant.now())
+                    .expiresAt(expiresAt)
+                    .build();
+        };
+    }
+
+    @Test
+    @DisplayName("verifies a token once and serves repeats of it from the cache.")
+    void decodeOnce() throws Exception {
+        // given
+        JwtDecoder sut = new CachingJwtDecoder(delegate(Instant.now().plusSeconds(300)), 100, Duration.ofMinutes(10));
+
+        // when
+        Jwt first = sut.decode("token-a");
+        Jwt second = sut.decode("token-a");
+        sut.decode("token-b");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("does not keep tokens past their expiry.")
+    void expired() throws Exception {
+        // given
+        JwtDecoder sut = new CachingJwtDecoder(delegate(Instant.now().minusSeconds(1)), 100, Duration.ofMinutes(10));
+
+        // when
+        sut.decode("token-a");
+        sut.decode("token-a");
+
+        // then
+        assertThat(decodes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("does not cache tokens that fail to decode.")
+    void failure() throws Exception {
+        // given
+        JwtDecoder sut = new CachingJwtDecoder(delegate(Instant.now().plusSeconds(300)), 100, Duration.ofMinutes(10));
+
+        // when & then
+        assertThatThrownBy(() -> sut.decode("bad-token")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> sut.decode("bad-token")).isInstanceOf(BadJwtException.class);
+        assertThat(decodes).hasValue(2);
+    }
+}
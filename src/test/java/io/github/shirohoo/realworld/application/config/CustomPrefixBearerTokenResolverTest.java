@@ -0,0 +1,77 @@
+package io.github.shirohoo.realworld.application.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+
+@DisplayName("The CustomPrefixBearerTokenResolver")
+class CustomPrefixBearerTokenResolverTest {
+    private final CustomPrefixBearerTokenResolver sut = new CustomPrefixBearerTokenResolver();
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        return request;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Token abc.DEF-123_~+/", "token abc.DEF-123_~+/", "TOKEN abc.DEF-123_~+/"})
+    @DisplayName("reads the token after the `Token` prefix, in any case.")
+    void resolve(String authorization) throws Exception {
+        // when
+        String token = sut.resolve(request(authorization));
+
+        // then
+        assertThat(token).isEqualTo("abc.DEF-123_~+/");
+    }
+
+    @Test
+    @DisplayName("keeps trailing padding.")
+    void padding() throws Exception {
+        // when
+        String token = sut.resolve(request("Token abc=="));
+
+        // then
+        assertThat(token).isEqualTo("abc==");
+    }
+
+    @Test
+    @DisplayName("ignores other schemes.")
+    void otherScheme() throws Exception {
+        // when
+        String token = sut.resolve(request("Bearer abc"));
+
+        // then
+        assertThat(token).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/users", "/api/users/login", "/api/users/token/refresh"})
+    @DisplayName("ignores the token of requests that exchange credentials for one.")
+    void credentialRequest(String path) throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Token abc");
+
+        // when
+        String token = sut.resolve(request);
+
+        // then
+        assertThat(token).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Token", "Token ", "Tokenabc", "Token  abc", "Token ==", "Token a=b", "Token a b"})
+    @DisplayName("rejects malformed tokens.")
+    void malformed(String authorization) throws Exception {
+        assertThatThrownBy(() -> sut.resolve(request(authorization)))
+                .isInstanceOf(OAuth2AuthenticationException.class);
+    }
+}
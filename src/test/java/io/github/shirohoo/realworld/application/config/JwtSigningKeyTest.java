@@ -0,0 +1,83 @@
+package io.github.shirohoo.realworld.application.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+@DisplayName("The JwtSigningKey")
+class JwtSigningKeyTest {
+    private static JWK generate(String keyId) throws JOSEException {
+        return switch (keyId) {
+            case "rsa" -> new RSAKeyGenerator(2048).keyID(keyId).generate();
+            case "ec" -> new ECKeyGenerator(Curve.P_256).keyID(keyId).generate();
+            default -> new OctetKeyPairGenerator(Curve.Ed25519).keyID(keyId).generate();
+        };
+    }
+
+    private static String sign(JWKSet jwkSet, JwtSigningKey signingKey) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .subject("james")
+                .build();
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(jwkSet));
+        return encoder.encode(JwtEncoderParameters.from(signingKey.header(), claims)).getTokenValue();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"rsa, RS256", "ec, ES256", "ed25519, EdDSA"})
+    @DisplayName("signs with the algorithm of its key type and verifies what it signed.")
+    void roundTrip(String keyId, String algorithm) throws Exception {
+        // given
+        JWKSet jwkSet = new JWKSet(generate(keyId));
+        JwtSigningKey sut = JwtSigningKey.select(jwkSet, null);
+
+        // when
+        Jwt jwt = SecurityConfiguration.verifier(jwkSet).decode(sign(jwkSet, sut));
+
+        // then
+        assertThat(sut.algorithm().getName()).isEqualTo(algorithm);
+        assertThat(jwt.getHeaders()).containsEntry("kid", keyId);
+        assertThat(jwt.getSubject()).isEqualTo("james");
+    }
+
+    @Test
+    @DisplayName("keeps verifying tokens of the previous key after the signing key rotates.")
+    void rotate() throws Exception {
+        // given
+        JWK previous = generate("rsa");
+        String issuedBefore = sign(new JWKSet(previous), JwtSigningKey.select(new JWKSet(previous), null));
+        JWKSet rotated = new JWKSet(List.of(previous, generate("ec")));
+
+        // when
+        JwtSigningKey sut = JwtSigningKey.select(rotated, "ec");
+        String issuedAfter = sign(rotated, sut);
+
+        // then
+        assertThat(sut.keyId()).isEqualTo("ec");
+        assertThat(SecurityConfiguration.verifier(rotated).decode(issuedBefore).getHeaders())
+                .containsEntry("kid", "rsa");
+        assertThat(SecurityConfiguration.verifier(rotated).decode(issuedAfter).getHeaders())
+                .containsEntry("kid", "ec");
+    }
+}
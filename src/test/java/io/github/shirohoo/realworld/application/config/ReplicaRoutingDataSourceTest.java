@@ -0,0 +1,180 @@
+package io.github.shirohoo.realworld.application.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("The ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static DataSource database(String name) {
+        String url = "jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1".formatted(name);
+        DataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS instance (name VARCHAR(16))");
+        jdbcTemplate.execute("DELETE FROM instance");
+        jdbcTemplate.update("INSERT INTO instance (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("james", null, "USER"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("sends read-only transactions to the replica and the others to the primary.")
+    void routeByReadOnly() throws Exception {
+        // given
+        DataSource sut = routing(Duration.ZERO);
+
+        // when
+        String read = servedBy(sut, true);
+        String write = servedBy(sut, false);
+
+        // then
+        assertThat(read).isEqualTo("replica");
+        assertThat(write).isEqualTo("primary");
+        assertThat(meterRegistry
+                        .counter("realworld.datasource.routes", "target", "replica", "reason", "read")
+                        .count())
+                .isOne();
+    }
+
+    @Test
+    @DisplayName("keeps the reads of a user who just wrote on the primary.")
+    void readYourWrites() throws Exception {
+        // given
+        DataSource sut = routing(Duration.ofMinutes(1));
+        servedBy(sut, false);
+
+        // when
+        String own = servedBy(sut, true);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("simpson", null, "USER"));
+        String others = servedBy(sut, true);
+
+        // then
+        assertThat(own).isEqualTo("primary");
+        assertThat(others).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("releases a user back to the replica once the window has passed.")
+    void stickinessExpires() throws Exception {
+        // given
+        DataSource sut = routing(Duration.ZERO);
+        servedBy(sut, false);
+
+        // when
+        String read = servedBy(sut, true);
+
+        // then
+        assertThat(read).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("serves transactions opened while a write commits from the primary, ahead of a lagging replica.")
+    void readDuringCompletion() throws Exception {
+        // given
+        // - an anonymous writer, so no stickiness applies
+        SecurityContextHolder.clearContext();
+        DataSource sut = routing(Duration.ZERO);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(sut);
+        AtomicReference<String> afterCommit = new AtomicReference<>();
+        AtomicReference<String> afterCompletion = new AtomicReference<>();
+
+        // when
+        // - the write never reaches the replica, which lags behind for good
+        transaction(sut, false, TransactionDefinition.PROPAGATION_REQUIRED).executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE instance SET name = 'written'");
+            // - ordered like a transactional event listener
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return 0;
+                }
+
+                @Override
+                public void afterCommit() {
+                    afterCommit.set(servedBy(sut, true, TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    afterCompletion.set(servedBy(sut, true, TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+                }
+            });
+        });
+        String afterwards = servedBy(sut, true);
+
+        // then
+        assertThat(afterCommit.get()).isEqualTo("written");
+        assertThat(afterCompletion.get()).isEqualTo("written");
+        assertThat(afterwards).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("serves reads inside a primary scope from the primary.")
+    void onPrimary() throws Exception {
+        // given
+        DataSource sut = routing(Duration.ZERO);
+
+        // when
+        String scoped = ReplicaRoutingDataSource.onPrimary(() -> servedBy(sut, true));
+        String unscoped = servedBy(sut, true);
+
+        // then
+        assertThat(scoped).isEqualTo("primary");
+        assertThat(unscoped).isEqualTo("replica");
+    }
+
+    private DataSource routing(Duration stickiness) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, stickiness, meterRegistry));
+    }
+
+    private String servedBy(DataSource dataSource, boolean readOnly) {
+        return servedBy(dataSource, readOnly, TransactionDefinition.PROPAGATION_REQUIRED);
+    }
+
+    private String servedBy(DataSource dataSource, boolean readOnly, int propagation) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transaction(dataSource, readOnly, propagation)
+                .execute(status -> jdbcTemplate.queryForObject("SELECT name FROM instance", String.class));
+    }
+
+    private TransactionTemplate transaction(DataSource dataSource, boolean readOnly, int propagation) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        transaction.setPropagationBehavior(propagation);
+        return transaction;
+    }
+}
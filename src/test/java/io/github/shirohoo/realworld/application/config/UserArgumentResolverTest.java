@@ -0,0 +1,66 @@
+package io.github.shirohoo.realworld.application.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.user.controller.LoginUserRequest;
+import io.github.shirohoo.realworld.application.user.controller.SignUpUserRequest;
+import io.github.shirohoo.realworld.application.user.service.UserService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@IntegrationTest
+@TestPropertySource(properties = {"spring.jpa.properties.hibernate.generate_statistics=true"})
+@DisplayName("The UserArgumentResolver")
+class UserArgumentResolverTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("resolves the caller from the token, so an authenticated read does not look the user up.")
+    void noUserQuery() throws Exception {
+        // given
+        userService.signUp(new SignUpUserRequest("james@example.com", "james", "1234"));
+        String token = "Token " + userService.login(new LoginUserRequest("james@example.com", "1234")).token();
+        entityManager.flush();
+        entityManager.clear();
+
+        // - the first read fills the user cache
+        mockMvc.perform(get("/api/user").header("Authorization", token)).andExpect(status().isOk());
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        mockMvc.perform(get("/api/user").header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.username").value("james"));
+
+        // then
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.shirohoo.realworld.application.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.user.controller.SignUpUserRequest;
+import io.github.shirohoo.realworld.application.user.controller.UpdateUserRequest;
+import io.github.shirohoo.realworld.application.user.service.AvailabilityService;
+import io.github.shirohoo.realworld.application.user.service.UserService;
+import io.github.shirohoo.realworld.domain.user.AvailabilityVO;
+import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = {"spring.jpa.properties.hibernate.generate_statistics=true"})
+@DisplayName("The Availability Services")
+class AvailabilityServiceTest {
+    @Autowired
+    private AvailabilityService sut;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("reports names that no one holds as free.")
+    void free() throws Exception {
+        // when
+        AvailabilityVO availability = sut.check("james", "james@example.com", "how-to-train-your-dragon");
+
+        // then
+        assertThat(availability).isEqualTo(new AvailabilityVO(true, true, true));
+    }
+
+    @Test
+    @DisplayName("reports names taken by a sign up as taken, and leaves out names it was not asked about.")
+    void taken() throws Exception {
+        // given
+        userService.signUp(new SignUpUserRequest("james@example.com", "james", "password"));
+
+        // when
+        AvailabilityVO both = sut.check("james", "james@example.com", null);
+        AvailabilityVO username = sut.check("james", null, null);
+        AvailabilityVO email = sut.check(null, "james@example.com", null);
+
+        // then
+        assertThat(both).isEqualTo(new AvailabilityVO(false, false, null));
+        assertThat(username).isEqualTo(new AvailabilityVO(false, null, null));
+        assertThat(email).isEqualTo(new AvailabilityVO(null, false, null));
+    }
+
+    @Test
+    @DisplayName("checks possible hits against the database, so a renamed user frees the old name.")
+    void renamed() throws Exception {
+        // given
+        User user = userService.signUp(new SignUpUserRequest("james@example.com", "james", "password"));
+        userService.update(user, new UpdateUserRequest(null, "james.to", null, null, null));
+
+        // when
+        AvailabilityVO availability = sut.check("james", null, null);
+
+        // then
+        assertThat(availability.username()).isTrue();
+        assertThat(sut.check("james.to", null, null).username()).isFalse();
+    }
+
+    @Test
+    @DisplayName("answers names missing from the filter without a query.")
+    void missWithoutQuery() throws Exception {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        // - names no test writes, as names put by other tests stay in the filter
+        AvailabilityVO availability = sut.check("nobody", "nobody@example.com", "nothing-to-see-here");
+
+        // then
+        assertThat(availability).isEqualTo(new AvailabilityVO(true, true, true));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("keeps names written just before a rebuild, whose writes may commit after it read the table.")
+    void rebuildKeepsRecentWrites() throws Exception {
+        // given
+        // - a sign up that has put its names but not written its row yet
+        sut.on(new UserEvent.SignedUp(UUID.randomUUID(), "ghost", "ghost@example.com"));
+
+        // when
+        sut.rebuild();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        AvailabilityVO availability = sut.check("ghost", null, null);
+
+        // then
+        // - still a possible hit, so the database is asked
+        assertThat(availability.username()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isOne();
+    }
+
+    @Test
+    @DisplayName("keeps every name written while rebuilds swap filters in.")
+    void writesDuringSwaps() throws Exception {
+        // given
+        // - names written on one thread while another rebuilds over and over
+        AtomicBoolean rebuilding = new AtomicBoolean(true);
+        CompletableFuture<Void> rebuilds = CompletableFuture.runAsync(() -> {
+            try {
+                for (int i = 0; i < 20; i++) {
+                    sut.rebuild();
+                }
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        CompletableFuture<Integer> writes = CompletableFuture.supplyAsync(() -> {
+            int written = 0;
+            while (rebuilding.get() && written < 10_000) {
+                sut.on(new UserEvent.SignedUp(
+                        UUID.randomUUID(), "racer-" + written, "racer-%d@example.com".formatted(written)));
+                written++;
+            }
+            return written;
+        });
+        rebuilds.get(1, TimeUnit.MINUTES);
+        int written = writes.get(1, TimeUnit.MINUTES);
+
+        // when
+        // - a name missing from the filter is answered without a query
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<String> missed = new ArrayList<>();
+        for (int i = 0; i < written; i++) {
+            statistics.clear();
+            sut.check("racer-" + i, null, null);
+            if (statistics.getPrepareStatementCount() == 0) {
+                missed.add("racer-" + i);
+            }
+        }
+
+        // then
+        assertThat(written).isPositive();
+        assertThat(missed).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.shirohoo.realworld.application.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.shirohoo.realworld.application.user.service.PasswordHasher;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("The PasswordHasher")
+class PasswordHasherTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ThreadPoolTaskExecutor executor;
+    private PasswordHasher sut;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        sut = new PasswordHasher(new BCryptPasswordEncoder(4), executor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("hashes and verifies passwords on its executor and times them.")
+    void encodeAndMatch() throws Exception {
+        // when
+        String encoded = sut.encode("password");
+
+        // then
+        assertThat(sut.matches("password", encoded)).isTrue();
+        assertThat(sut.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("realworld.password.hashing").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("rejects work at once when its threads and queue are full.")
+    void rejectWhenSaturated() throws Exception {
+        // given
+        // - the only thread is busy and there is no queue
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // when
+        try {
+            assertThatThrownBy(() -> sut.encode("password")).isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+        }
+
+        // then
+        assertThat(meterRegistry.get("realworld.password.hashing.rejected").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.shirohoo.realworld.application.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.user.controller.LoginUserRequest;
+import io.github.shirohoo.realworld.application.user.controller.SignUpUserRequest;
+import io.github.shirohoo.realworld.application.user.service.UserService;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+import io.github.shirohoo.realworld.domain.user.UserVO;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@IntegrationTest
+@TestPropertySource(properties = {"realworld.security.password.hashing-threads=1"})
+@DisplayName("The password hashing of the User Services")
+// A test transaction would hold a connection of its own, so these tests run outside one.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PasswordHashingConnectionTest {
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ThreadPoolTaskExecutor passwordHashingExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jdbcTemplate.update("DELETE FROM refresh_token");
+        if (userId != null) {
+            userRepository.deleteById(userId);
+        }
+    }
+
+    @Test
+    @DisplayName("holds no database connection while a login waits for the hashing executor.")
+    void loginWaitsWithoutConnection() throws Exception {
+        // given
+        userId = userService
+                .signUp(new SignUpUserRequest("james@example.com", "james", "password"))
+                .id();
+
+        // - the only hashing thread is busy
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHashingExecutor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // when
+        CompletableFuture<UserVO> login = CompletableFuture.supplyAsync(
+                () -> userService.login(new LoginUserRequest("james@example.com", "password")));
+        int activeConnections;
+        try {
+            awaitQueued(1);
+            activeConnections = dataSource
+                    .unwrap(HikariDataSource.class)
+                    .getHikariPoolMXBean()
+                    .getActiveConnections();
+        } finally {
+            release.countDown();
+        }
+
+        // then
+        assertThat(activeConnections).isZero();
+        assertThat(login.get(10, TimeUnit.SECONDS).token()).isNotEmpty();
+    }
+
+    private void awaitQueued(int tasks) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (passwordHashingExecutor.getThreadPoolExecutor().getQueue().size() < tasks) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("No login reached the hashing queue.");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
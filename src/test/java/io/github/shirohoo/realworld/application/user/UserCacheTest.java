@@ -0,0 +1,62 @@
+package io.github.shirohoo.realworld.application.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.user.controller.SignUpUserRequest;
+import io.github.shirohoo.realworld.application.user.controller.UpdateUserRequest;
+import io.github.shirohoo.realworld.application.user.service.UserCache;
+import io.github.shirohoo.realworld.application.user.service.UserService;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
+import io.github.shirohoo.realworld.domain.user.UserVO;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@IntegrationTest
+@DisplayName("The UserCache")
+// Entries are dropped once an update commits, so these tests run outside a test transaction.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserCacheTest {
+    @Autowired
+    private UserCache sut;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID userId;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (userId != null) {
+            userRepository.deleteById(userId);
+        }
+    }
+
+    @Test
+    @DisplayName("drops a user once an update of it commits, so the next read sees the change.")
+    void evictOnUpdate() throws Exception {
+        // given
+        userId = userService
+                .signUp(new SignUpUserRequest("james@example.com", "james", "password"))
+                .id();
+        assertThat(sut.get(userId)).map(UserVO::username).contains("james");
+
+        // when
+        userService.update(
+                new CurrentUser.Claims(userId, "token"), new UpdateUserRequest(null, "james.to", null, null, null));
+
+        // then
+        assertThat(sut.get(userId)).map(UserVO::username).contains("james.to");
+    }
+}
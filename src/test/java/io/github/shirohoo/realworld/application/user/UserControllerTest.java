@@ -5,18 +5,25 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import io.github.shirohoo.realworld.IntegrationTest;
+import io.github.shirohoo.realworld.application.config.JwtSigningKey;
 import io.github.shirohoo.realworld.application.user.controller.LoginUserRequest;
+import io.github.shirohoo.realworld.application.user.controller.RefreshTokenRequest;
 import io.github.shirohoo.realworld.application.user.controller.SignUpUserRequest;
 import io.github.shirohoo.realworld.application.user.controller.UpdateUserRequest;
 import io.github.shirohoo.realworld.application.user.service.UserService;
+import io.github.shirohoo.realworld.domain.user.User;
 import io.github.shirohoo.realworld.domain.user.UserVO;
 
+import java.time.Instant;
 import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -34,6 +41,12 @@ class UserControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JwtEncoder jwtEncoder;
+
+    @Autowired
+    private JwtSigningKey jwtSigningKey;
+
     @Test
     @DisplayName("provides membership registration API.")
     void signUp() throws Exception {
@@ -56,6 +69,27 @@ class UserControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("provides name availability API without authentication.")
+    void checkAvailability() throws Exception {
+        // given
+        // - sign up
+        userService.signUp(new SignUpUserRequest("james@example.com", "james", "password"));
+
+        // when
+        ResultActions resultActions = mockMvc.perform(get("/api/users/availability")
+                .param("username", "james")
+                .param("email", "simpson@example.com"));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availability.username").value(false))
+                .andExpect(jsonPath("$.availability.email").value(true))
+                .andExpect(jsonPath("$.availability.slug").doesNotExist())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("provides login API.")
     void login() throws Exception {
@@ -148,4 +182,40 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.user.image").value("https://i.stack.imgur.com/xHWG8.jpg"))
                 .andDo(print());
     }
+
+    @Test
+    @DisplayName("refreshes a token even when the request still carries the expired one.")
+    void refreshWithExpiredToken() throws Exception {
+        // given
+        // - sign up and login
+        User james = userService.signUp(new SignUpUserRequest("james@example.com", "james", "password"));
+        UserVO userVO = userService.login(new LoginUserRequest("james@example.com", "password"));
+
+        // - an access token of the user that has expired
+        Instant issuedAt = Instant.now().minusSeconds(600);
+        JwtClaimsSet claimsSet = JwtClaimsSet.builder()
+                .issuer("https://realworld.io")
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusSeconds(300))
+                .subject(james.id().toString())
+                .build();
+        String expiredToken = jwtEncoder
+                .encode(JwtEncoderParameters.from(jwtSigningKey.header(), claimsSet))
+                .getTokenValue();
+
+        // when
+        ResultActions resultActions = mockMvc.perform(post("/api/users/token/refresh")
+                .header("Authorization", "Token " + expiredToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        Map.of("user", new RefreshTokenRequest(userVO.refreshToken())))));
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.username").value("james"))
+                .andExpect(jsonPath("$.user.token").isNotEmpty())
+                .andExpect(jsonPath("$.user.refreshToken").isNotEmpty())
+                .andDo(print());
+    }
 }
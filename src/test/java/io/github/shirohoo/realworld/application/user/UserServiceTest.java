@@ -1,18 +1,22 @@
 package io.github.shirohoo.realworld.application.user;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.shirohoo.realworld.IntegrationTest;
 import io.github.shirohoo.realworld.application.user.controller.LoginUserRequest;
 import io.github.shirohoo.realworld.application.user.controller.SignUpUserRequest;
 import io.github.shirohoo.realworld.application.user.controller.UpdateUserRequest;
 import io.github.shirohoo.realworld.application.user.service.UserService;
+import io.github.shirohoo.realworld.domain.user.CurrentUser;
 import io.github.shirohoo.realworld.domain.user.User;
+import io.github.shirohoo.realworld.domain.user.UserRepository;
 import io.github.shirohoo.realworld.domain.user.UserVO;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @IntegrationTest
 @DisplayName("The User Services")
@@ -20,6 +24,9 @@ class UserServiceTest {
     @Autowired
     private UserService sut;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @Test
     @DisplayName("provides membership registration function.")
     void signUp() throws Exception {
@@ -37,6 +44,21 @@ class UserServiceTest {
         assertThat(user.password()).isNotEqualTo("password");
     }
 
+    @Test
+    @DisplayName("rejects a sign up with a username or email that is already taken.")
+    void signUpDuplicate() throws Exception {
+        // given
+        sut.signUp(new SignUpUserRequest("james@example.com", "james", "password"));
+
+        // when & then
+        assertThatThrownBy(() -> sut.signUp(new SignUpUserRequest("james.to@example.com", "james", "password")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Username");
+        assertThatThrownBy(() -> sut.signUp(new SignUpUserRequest("james@example.com", "james.to", "password")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Email");
+    }
+
     @Test
     @DisplayName("provides login function.")
     void login() throws Exception {
@@ -56,6 +78,73 @@ class UserServiceTest {
         assertThat(user.image()).isNull();
     }
 
+    @Test
+    @DisplayName("rehashes a password made with a lower cost on login.")
+    void loginRehash() throws Exception {
+        // given
+        // - a user whose password was hashed at cost 4
+        String weak = new BCryptPasswordEncoder(4).encode("password");
+        User user = userRepository.save(User.builder()
+                .email("james@example.com")
+                .username("james")
+                .password(weak)
+                .build());
+
+        // when
+        sut.login(new LoginUserRequest("james@example.com", "password"));
+
+        // then
+        assertThat(user.password()).isNotEqualTo(weak).startsWith("$2a$10$");
+    }
+
+    @Test
+    @DisplayName("trades a refresh token for new tokens without the password.")
+    void refresh() throws Exception {
+        // given
+        sut.signUp(new SignUpUserRequest("james@example.com", "james", "password"));
+        UserVO login = sut.login(new LoginUserRequest("james@example.com", "password"));
+
+        // when
+        UserVO user = sut.refresh(login.refreshToken());
+
+        // then
+        assertThat(user.username()).isEqualTo("james");
+        assertThat(user.token()).isNotEmpty();
+        assertThat(user.refreshToken()).isNotEmpty().isNotEqualTo(login.refreshToken());
+    }
+
+    @Test
+    @DisplayName("revokes the whole token family when a refresh token is used twice.")
+    void refreshReused() throws Exception {
+        // given
+        sut.signUp(new SignUpUserRequest("james@example.com", "james", "password"));
+        UserVO login = sut.login(new LoginUserRequest("james@example.com", "password"));
+        UserVO refreshed = sut.refresh(login.refreshToken());
+
+        // when
+        assertThatThrownBy(() -> sut.refresh(login.refreshToken())).isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThatThrownBy(() -> sut.refresh(refreshed.refreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("reads the current user from the claims of its token.")
+    void getCurrentUser() throws Exception {
+        // given
+        User user = sut.signUp(new SignUpUserRequest("james@example.com", "james", "password"));
+        CurrentUser me = new CurrentUser.Claims(user.id(), "token");
+
+        // when
+        UserVO userVO = sut.getCurrentUser(me);
+
+        // then
+        assertThat(userVO.email()).isEqualTo("james@example.com");
+        assertThat(userVO.username()).isEqualTo("james");
+        assertThat(userVO.token()).isEqualTo("token");
+    }
+
     @Test
     @DisplayName("provides member information update function.")
     void update() throws Exception {
@@ -0,0 +1,41 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The ArticleCursor")
+class ArticleCursorTest {
+    @Test
+    @DisplayName("can be decoded from its encoded form.")
+    void roundTrip() {
+        // given
+        ArticleCursor cursor = new ArticleCursor(LocalDateTime.of(2022, 1, 1, 12, 30, 15, 123456000), 42);
+
+        // when
+        ArticleCursor decoded = ArticleCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.isFirst()).isFalse();
+    }
+
+    @Test
+    @DisplayName("points to the first page when the cursor is blank.")
+    void first() {
+        assertThat(ArticleCursor.decode("").isFirst()).isTrue();
+        assertThat(ArticleCursor.decode(null).isFirst()).isTrue();
+    }
+
+    @Test
+    @DisplayName("rejects cursors that were not issued by the server.")
+    void invalid() {
+        assertThatThrownBy(() -> ArticleCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor: `not-a-cursor`");
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The ArticleFacetIndex")
+class ArticleFacetIndexTest {
+    private final UUID james = UUID.randomUUID();
+    private final UUID simpson = UUID.randomUUID();
+
+    private ArticleFacetIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleFacetIndex();
+        sut.add(1, james, List.of("java"));
+        sut.add(2, james, List.of("java", "kotlin"));
+        sut.add(3, simpson, List.of("kotlin"));
+        sut.favorite(1, simpson);
+    }
+
+    @Test
+    @DisplayName("returns the newest matching articles first.")
+    void findIds() {
+        // when
+        List<Integer> ids = sut.findIds(new ArticleFacetIndex.Query(null, null, null, null), 0, 20);
+
+        // then
+        assertThat(ids).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("intersects every tag of allTags and unions the tags of anyTags.")
+    void tags() {
+        // when
+        var all = new ArticleFacetIndex.Query(List.of("java", "kotlin"), null, null, null);
+        var any = new ArticleFacetIndex.Query(null, List.of("java", "kotlin"), null, null);
+
+        // then
+        assertThat(sut.findIds(all, 0, 20)).containsExactly(2);
+        assertThat(sut.findIds(any, 0, 20)).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    @DisplayName("filters by author and by favoriting user.")
+    void authorAndFavoritedBy() {
+        // when
+        long byJames = sut.count(new ArticleFacetIndex.Query(null, null, james, null));
+        List<Integer> favoritedBySimpson = sut.findIds(new ArticleFacetIndex.Query(null, null, null, simpson), 0, 20);
+
+        sut.unfavorite(1, simpson);
+        long afterUnfavorite = sut.count(new ArticleFacetIndex.Query(null, null, null, simpson));
+
+        // then
+        assertThat(byJames).isEqualTo(2);
+        assertThat(favoritedBySimpson).containsExactly(1);
+        assertThat(afterUnfavorite).isZero();
+    }
+
+    @Test
+    @DisplayName("pages with offset and limit, and leaves removed articles out.")
+    void pagingAndRemove() {
+        // when
+        sut.remove(3);
+        List<Integer> page = sut.findIds(new ArticleFacetIndex.Query(null, null, null, null), 1, 1);
+
+        // then
+        assertThat(page).containsExactly(1);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The ArticleSearchIndex")
+class ArticleSearchIndexTest {
+    private ArticleSearchIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleSearchIndex();
+        sut.put(1, "Effective Java", "Best practices", "Items about the Java platform.");
+        sut.put(2, "Effective Kotlin", "Best practices", "Kotlin runs on the JVM, like Java.");
+        sut.put(3, "Spring in Action", "A tour of Spring", "Dependency injection and more.");
+    }
+
+    @Test
+    @DisplayName("tokenizes text into lower-case words.")
+    void tokenize() {
+        assertThat(ArticleSearchIndex.tokenize("Hello, World! Java-17"))
+                .containsExactly("hello", "world", "java", "17");
+    }
+
+    @Test
+    @DisplayName("ranks articles whose title matches above those that only mention the term.")
+    void search() {
+        // when
+        List<ArticleSearchIndex.Hit> hits = sut.search("java", 10);
+
+        // then
+        assertThat(hits).extracting(ArticleSearchIndex.Hit::articleId).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("follows updates and removals.")
+    void putAndRemove() {
+        // when
+        sut.put(3, "Spring for Java developers", "A tour of Spring", "Dependency injection and more.");
+        sut.remove(1);
+
+        // then
+        assertThat(sut.search("java", 10)).extracting(ArticleSearchIndex.Hit::articleId).containsExactly(3, 2);
+        assertThat(sut.search("items", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("pages through hits with a cursor.")
+    void cursor() {
+        // given
+        List<ArticleSearchIndex.Hit> hits = sut.search("best practices", 10);
+        ArticleSearchCursor cursor =
+                ArticleSearchCursor.decode(ArticleSearchCursor.of("snapshot", hits.get(0)).encode());
+
+        // when
+        List<ArticleSearchIndex.Hit> next = hits.stream().filter(cursor::precedes).toList();
+
+        // then
+        assertThat(cursor.snapshot()).isEqualTo("snapshot");
+        assertThat(next).containsExactly(hits.get(1));
+    }
+
+    @Test
+    @DisplayName("applies a filter before cutting the hits off at the maximum.")
+    void searchFiltered() {
+        // when
+        List<ArticleSearchIndex.Hit> hits = sut.search("java", 1, articleId -> articleId == 2);
+
+        // then
+        assertThat(hits).extracting(ArticleSearchIndex.Hit::articleId).containsExactly(2);
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The ArticleTimeline")
+class ArticleTimelineTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 4, 1, 12, 0);
+
+    private final ArticleTimeline james = new ArticleTimeline(List.of(position(5), position(3), position(1)), true);
+    private final ArticleTimeline simpson = new ArticleTimeline(List.of(position(4), position(2)), true);
+
+    @Test
+    @DisplayName("merges timelines newest first and stops at the limit.")
+    void merge() {
+        // when
+        var ids = ArticleTimeline.merge(List.of(james, simpson), ArticleCursor.first(), 0, 4);
+
+        // then
+        assertThat(ids).contains(List.of(5, 4, 3, 2));
+    }
+
+    @Test
+    @DisplayName("continues after a cursor and skips the offset.")
+    void mergeAfter() {
+        // when
+        var afterCursor = ArticleTimeline.merge(List.of(james, simpson), position(4), 0, 20);
+        var withOffset = ArticleTimeline.merge(List.of(james, simpson), ArticleCursor.first(), 3, 20);
+
+        // then
+        assertThat(afterCursor).contains(List.of(3, 2, 1));
+        assertThat(withOffset).contains(List.of(2, 1));
+    }
+
+    @Test
+    @DisplayName("gives up when the page reaches past a timeline that was cut at its bound.")
+    void mergeTruncated() {
+        // given
+        ArticleTimeline truncated = new ArticleTimeline(List.of(position(6)), false);
+
+        // when
+        var withinBound = ArticleTimeline.merge(List.of(truncated, simpson), ArticleCursor.first(), 0, 1);
+        var pastBound = ArticleTimeline.merge(List.of(truncated, simpson), ArticleCursor.first(), 0, 3);
+
+        // then
+        assertThat(withinBound).contains(List.of(6));
+        assertThat(pastBound).isEmpty();
+    }
+
+    private static ArticleCursor position(int id) {
+        return new ArticleCursor(NOW.plusMinutes(id), id);
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.shirohoo.realworld.domain.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The TagSnapshot")
+class TagSnapshotTest {
+    private final TagSnapshot sut =
+            TagSnapshot.of(List.of(new TagUsage("java", 3), new TagUsage("kotlin", 2), new TagUsage("scala", 0)));
+
+    @Test
+    @DisplayName("keeps the order of usage and limits to the top tags.")
+    void names() {
+        assertThat(sut.names(null)).containsExactly("java", "kotlin", "scala");
+        assertThat(sut.names(2)).containsExactly("java", "kotlin");
+        assertThat(sut.names(10)).containsExactly("java", "kotlin", "scala");
+    }
+
+    @Test
+    @DisplayName("changes its version when a usage changes.")
+    void version() {
+        // given
+        TagSnapshot changed =
+                TagSnapshot.of(List.of(new TagUsage("java", 3), new TagUsage("kotlin", 3), new TagUsage("scala", 0)));
+
+        // then
+        assertThat(changed.version()).isNotEqualTo(sut.version());
+        assertThat(sut.etag(null)).isNotEqualTo(sut.etag(2));
+    }
+}
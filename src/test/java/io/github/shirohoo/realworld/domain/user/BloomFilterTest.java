@@ -0,0 +1,48 @@
+package io.github.shirohoo.realworld.domain.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The BloomFilter")
+class BloomFilterTest {
+    @Test
+    @DisplayName("never misses a string that was put.")
+    void noFalseNegatives() {
+        // given
+        BloomFilter sut = new BloomFilter(10_000, 0.01);
+
+        // when
+        IntStream.range(0, 10_000).forEach(i -> sut.put("username:james" + i));
+
+        // then
+        assertThat(IntStream.range(0, 10_000)).allMatch(i -> sut.mightContain("username:james" + i));
+    }
+
+    @Test
+    @DisplayName("answers false positives at about the rate it was sized for.")
+    void falsePositiveRate() {
+        // given
+        BloomFilter sut = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> sut.put("username:james" + i));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> sut.mightContain("username:simpson" + i))
+                .count();
+
+        // then
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("rejects sizes it cannot honor.")
+    void invalidSize() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,6 +2,7 @@ package io.github.shirohoo.realworld.domain.user;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
@@ -68,4 +69,26 @@ class ProfileVOTest {
         assertThat(simpsonProfile.image()).isEqualTo("https://example.com/image.jpg");
         assertThat(simpsonProfile.following()).isTrue();
     }
+
+    @Test
+    @DisplayName("resolves following from the viewer context.")
+    void viewerContext() {
+        // given
+        User simpson = User.builder()
+                .id(UUID.randomUUID())
+                .username("simpson")
+                .email("simpson@example.com")
+                .password("password")
+                .build();
+
+        ViewerContext viewer = new ViewerContext(UUID.randomUUID(), Set.of(), Set.of(simpson.id()));
+
+        // when
+        ProfileVO simpsonProfile = new ProfileVO(viewer, simpson);
+        ProfileVO anonymousProfile = new ProfileVO(ViewerContext.anonymous(), simpson);
+
+        // then
+        assertThat(simpsonProfile.following()).isTrue();
+        assertThat(anonymousProfile.following()).isFalse();
+    }
 }
@@ -0,0 +1,51 @@
+package io.github.shirohoo.realworld.domain.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("The TimeOrderedUUIDGenerator")
+class TimeOrderedUUIDGeneratorTest {
+    @Test
+    @DisplayName("generates version 7 UUIDs with the RFC 4122 variant.")
+    void version() {
+        // when
+        UUID uuid = TimeOrderedUUIDGenerator.next();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("puts the current time in the leading bits.")
+    void timestamp() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID uuid = TimeOrderedUUIDGenerator.next();
+
+        // then
+        // The counter may run a few milliseconds ahead after a burst, so the upper bound leaves some room.
+        assertThat(TimeOrderedUUIDGenerator.timestamp(uuid)).isBetween(before, System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    @DisplayName("generates strictly increasing UUIDs, even within one millisecond.")
+    void ordering() {
+        // when
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(TimeOrderedUUIDGenerator.next());
+        }
+
+        // then
+        assertThat(uuids).isSorted().doesNotHaveDuplicates();
+    }
+}